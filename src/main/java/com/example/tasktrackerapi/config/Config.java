@@ -4,6 +4,7 @@ import com.example.tasktrackerapi.entity.*;
 import com.example.tasktrackerapi.repository.ProjectRepository;
 import com.example.tasktrackerapi.repository.TaskRepository;
 import com.example.tasktrackerapi.repository.UserRepository;
+import com.example.tasktrackerapi.service.TaskCounterService;
 import lombok.AllArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
@@ -20,6 +21,7 @@ public class Config {
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TaskCounterService taskCounterService;
 
 
     @Bean
@@ -47,6 +49,7 @@ public class Config {
             task.setProject(project);
             task.setAssignedUser(user);
             taskRepository.save(task);
+            taskCounterService.taskCreated(task);
 
         };
     }
@@ -0,0 +1,32 @@
+package com.example.tasktrackerapi.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Size and time-to-live of the Hibernate second-level cache regions, bound from
+ * {@code tasktracker.entity-cache.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "tasktracker.entity-cache")
+public class EntityCacheProperties {
+
+    /** User entities and the email to id lookups. */
+    private Region users = new Region(10_000, Duration.ofMinutes(30));
+
+    private Region projects = new Region(10_000, Duration.ofMinutes(30));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Region {
+
+        private long maxSize;
+
+        private Duration ttl;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.tasktrackerapi.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * The login bulkhead: password checks are CPU-heavy by design, so they run on a small pool of
+ * their own instead of the request threads, and a burst of logins can only ever occupy that pool.
+ */
+@Configuration
+@EnableConfigurationProperties(LoginProperties.class)
+public class LoginConfig {
+
+    // Not a default candidate: an ordinary Executor bean would make Spring Boot drop its own
+    // applicationTaskExecutor, which async requests and @Async work run on.
+    @Bean(defaultCandidate = false)
+    ThreadPoolTaskExecutor loginExecutor(LoginProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getThreads());
+        executor.setMaxPoolSize(properties.getThreads());
+        // Bounded, so a full queue rejects the login at once rather than letting it wait for minutes.
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("login-");
+        return executor;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.tasktrackerapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Password hashing cost and the limits that keep logins from crowding out other requests,
+ * bound from {@code tasktracker.login.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "tasktracker.login")
+public class LoginProperties {
+
+    /** BCrypt log rounds for new hashes; stored hashes with another cost are rehashed on login. */
+    private int bcryptStrength = 10;
+
+    /** Threads verifying passwords; logins beyond these and the queue are turned away with 503. */
+    private int threads = 4;
+
+    private int queueCapacity = 50;
+
+    /** Failed logins after which an account is refused until its failures age out of the window. */
+    private int maxFailuresPerAccount = 5;
+
+    /** Failed logins, over all accounts, after which a client address is refused. */
+    private int maxFailuresPerAddress = 20;
+
+    private Duration failureWindow = Duration.ofMinutes(15);
+}
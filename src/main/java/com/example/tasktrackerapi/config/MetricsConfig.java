@@ -0,0 +1,95 @@
+package com.example.tasktrackerapi.config;
+
+import com.example.tasktrackerapi.repository.StatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.BeanUtils;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Records how many SQL statements each request issues as {@code tasktracker.sql.statements},
+ * tagged like {@code http.server.requests} with the method and URI pattern. Only statements run
+ * on the request thread count; the reactive API and logins query from other threads.
+ */
+@Configuration
+@AllArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final StatementCounter statementCounter;
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Hibernate takes a single inspector, so one set through {@code spring.jpa.properties} runs
+     * first and the counter sees the statement it returns.
+     */
+    @Bean
+    HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties -> {
+            Object configured = properties.get(AvailableSettings.STATEMENT_INSPECTOR);
+            if (configured == null) {
+                properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+            } else {
+                StatementInspector inspector = toInspector(configured);
+                properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                        (StatementInspector) sql -> statementCounter.inspect(inspector.inspect(sql)));
+            }
+        };
+    }
+
+    private static StatementInspector toInspector(Object configured) {
+        if (configured instanceof StatementInspector inspector) {
+            return inspector;
+        }
+        Class<?> type = configured instanceof Class<?> c ? c
+                : ClassUtils.resolveClassName(configured.toString(), MetricsConfig.class.getClassLoader());
+        return (StatementInspector) BeanUtils.instantiateClass(type);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AsyncHandlerInterceptor() {
+
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                // The dispatch that writes an asynchronous result has nothing left to count.
+                if (request.getDispatcherType() != DispatcherType.ASYNC) {
+                    statementCounter.start();
+                }
+                return true;
+            }
+
+            @Override
+            public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                statementCounter.stop();
+            }
+
+            @Override
+            public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+                int statements = statementCounter.stop();
+                Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                if (statements >= 0 && uri != null) {
+                    DistributionSummary.builder("tasktracker.sql.statements")
+                            .description("SQL statements issued by one request")
+                            .tag("method", request.getMethod())
+                            .tag("uri", uri.toString())
+                            .register(meterRegistry)
+                            .record(statements);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.tasktrackerapi.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request rate limits, bound from {@code tasktracker.rate-limit.*}. Every caller has a token
+ * bucket per role limit, and one more per endpoint limit matching the request. Capacities and
+ * rates must be positive; a zero rate would never refill a bucket and overflow its expiry.
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "tasktracker.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** Buckets kept at most; idle buckets are dropped as soon as they would be full again. */
+    private long maxBuckets = 1_000_000;
+
+    /** Limits by role name (USER, MANAGER, ADMIN), and ANONYMOUS for requests without a valid token. */
+    @Valid
+    private Map<String, Limit> roles = new HashMap<>();
+
+    @Valid
+    private List<EndpointLimit> endpoints = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        /** Requests that can be made in a burst. */
+        @Positive
+        private int capacity;
+
+        /** Rate at which the burst allowance comes back. */
+        @Positive
+        private double tokensPerSecond;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class EndpointLimit {
+
+        /** Path pattern such as {@code /api/tasks/export} or {@code /api/tasks/**}. */
+        private String pattern;
+
+        /** HTTP method, or empty for all. */
+        private String method;
+
+        @Positive
+        private int capacity;
+
+        @Positive
+        private double tokensPerSecond;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.tasktrackerapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Non-blocking access to the same schema for the reactive read API. Only the {@link DatabaseClient}
+ * is a bean: an R2DBC {@code ConnectionFactory} bean would make Spring Boot skip the JDBC data
+ * source, which JPA and Flyway still need (R2DBC auto-configuration is excluded for the same reason).
+ * <p>
+ * r2dbc-h2 is a thin layer over H2's JDBC engine and runs each statement synchronously on the
+ * thread that subscribes, which under Spring MVC is the request thread. Queries are therefore
+ * subscribed on {@link #reactiveDatabaseScheduler}, one thread per pooled connection, so the
+ * request thread is released while they run; with the in-memory database this moves the blocking
+ * work rather than removing it.
+ */
+@Configuration
+@EnableConfigurationProperties(ReactiveDatabaseProperties.class)
+public class ReactiveDatabaseConfig {
+
+    private static final String H2_JDBC_PREFIX = "jdbc:h2:";
+
+    static final String SCHEDULER_NAME = "tasktracker-r2dbc";
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    DatabaseClient reactiveDatabaseClient(ReactiveDatabaseProperties properties, DataSource dataSource) throws SQLException {
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory(properties, dataSource))
+                .name("tasktracker-reactive")
+                .maxSize(properties.getMaxPoolSize())
+                .maxAcquireTime(properties.getMaxAcquireTime())
+                .build());
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    Scheduler reactiveDatabaseScheduler(ReactiveDatabaseProperties properties) {
+        return Schedulers.newBoundedElastic(properties.getMaxPoolSize(),
+                Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, SCHEDULER_NAME);
+    }
+
+    @PreDestroy
+    void closeConnectionPool() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+
+    private static ConnectionFactory connectionFactory(ReactiveDatabaseProperties properties, DataSource dataSource)
+            throws SQLException {
+        if (properties.getUrl() != null && !properties.getUrl().isBlank()) {
+            return ConnectionFactories.get(properties.getUrl());
+        }
+        HikariDataSource jdbc = dataSource.unwrap(HikariDataSource.class);
+        if (!jdbc.getJdbcUrl().startsWith(H2_JDBC_PREFIX)) {
+            throw new IllegalStateException("Set tasktracker.reactive.url for " + jdbc.getJdbcUrl());
+        }
+        return new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .url(jdbc.getJdbcUrl().substring(H2_JDBC_PREFIX.length()))
+                .username(jdbc.getUsername())
+                .password(jdbc.getPassword() == null ? "" : jdbc.getPassword())
+                .build());
+    }
+}
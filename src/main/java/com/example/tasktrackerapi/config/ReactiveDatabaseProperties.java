@@ -0,0 +1,27 @@
+package com.example.tasktrackerapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Connection settings of the reactive read API, bound from {@code tasktracker.reactive.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "tasktracker.reactive")
+public class ReactiveDatabaseProperties {
+
+    /**
+     * R2DBC URL of the database. When empty, the in-memory H2 database of the JDBC data source
+     * is opened through r2dbc-h2. Only a database the JDBC side also reaches over the network can
+     * be given here; an in-memory database lives inside this process.
+     */
+    private String url;
+
+    /** Connections the reactive pool opens at most, on top of the JDBC pool. */
+    private int maxPoolSize = 10;
+
+    /** How long a query waits for a free connection before it fails. */
+    private Duration maxAcquireTime = Duration.ofSeconds(2);
+}
@@ -0,0 +1,13 @@
+package com.example.tasktrackerapi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+/**
+ * Enables {@code @Retryable}. The retry advice is ordered outside the transaction advice, so
+ * every attempt runs in a fresh transaction and reads the current row.
+ */
+@Configuration
+@EnableRetry
+public class RetryConfig {
+}
@@ -0,0 +1,12 @@
+package com.example.tasktrackerapi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs, such as merging and reconciling the task counters.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
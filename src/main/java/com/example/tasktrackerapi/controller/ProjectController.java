@@ -2,17 +2,23 @@ package com.example.tasktrackerapi.controller;
 
 import com.example.tasktrackerapi.dtos.ProjectCreateDTO;
 import com.example.tasktrackerapi.dtos.ProjectDTO;
+import com.example.tasktrackerapi.service.ETags;
 import com.example.tasktrackerapi.service.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/projects")
 @AllArgsConstructor
@@ -22,7 +28,7 @@ public class ProjectController {
     private final ProjectService projectService;
 
     @GetMapping
-    @Operation(summary = "Get all projects")
+    @Operation(summary = "Get all projects with pagination; tasks are embedded only with include=tasks")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved list of projects"),
             @ApiResponse(responseCode = "400", description = "Bad request"),
@@ -30,23 +36,45 @@ public class ProjectController {
             @ApiResponse(responseCode = "403", description = "Forbidden"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<List<ProjectDTO>> getAllProjects() {
-        return ResponseEntity.ok(projectService.getAllProjects());
+    public ResponseEntity<Page<ProjectDTO>> getAllProjects(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String include,
+            @RequestParam(defaultValue = "10") int taskLimit
+    ) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id"));
+        Page<ProjectDTO> projects = "tasks".equals(include)
+                ? projectService.getAllProjectsWithTasks(pageable, taskLimit)
+                : projectService.getAllProjects(pageable);
+        return ResponseEntity.ok(projects);
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get project by ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Project found and returned"),
+            @ApiResponse(responseCode = "304", description = "Project unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "400", description = "Bad request"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Forbidden"),
             @ApiResponse(responseCode = "404", description = "Project not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long id) {
+    public ResponseEntity<ProjectDTO> getProjectById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        // Tag first, before the owner and tasks are loaded: a conditional read may end here, and a
+        // write racing with the load below can only make the tag older than the body, never newer.
+        String etag = projectService.getProjectETag(id);
+        if (ETags.notModified(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         ProjectDTO project = projectService.getProjectById(id);
-        return ResponseEntity.ok(project);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(project);
     }
 
     @PostMapping
@@ -71,14 +99,16 @@ public class ProjectController {
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Forbidden"),
             @ApiResponse(responseCode = "404", description = "Project not found"),
+            @ApiResponse(responseCode = "412", description = "Project changed since the ETag in If-Match"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<ProjectDTO> updateProject(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody ProjectCreateDTO projectDTO
     ) {
-        ProjectDTO updated = projectService.updateProject(id, projectDTO);
-        return ResponseEntity.ok(updated);
+        ProjectDTO updated = projectService.updateProject(id, projectDTO, ifMatch);
+        return ResponseEntity.ok().eTag(projectService.getProjectETag(id)).body(updated);
     }
 
     @DeleteMapping("/{id}")
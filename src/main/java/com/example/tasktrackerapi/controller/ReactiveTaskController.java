@@ -0,0 +1,101 @@
+package com.example.tasktrackerapi.controller;
+
+import com.example.tasktrackerapi.dtos.CursorPageDTO;
+import com.example.tasktrackerapi.dtos.TaskDTO;
+import com.example.tasktrackerapi.dtos.TaskFilterDTO;
+import com.example.tasktrackerapi.service.ETags;
+import com.example.tasktrackerapi.service.ReactiveTaskService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variants of the task reads. The request is authenticated like any other; the
+ * servlet thread is released while the query runs and the response is written once it completes.
+ */
+@RestController
+@RequestMapping("/api/reactive/tasks")
+@AllArgsConstructor
+@Tag(name = "Tasks (reactive)", description = "Non-blocking read-only API for tasks")
+public class ReactiveTaskController {
+
+    private final ReactiveTaskService reactiveTaskService;
+
+    @GetMapping
+    @Operation(summary = "Get tasks with cursor pagination, starting after the given cursor (empty for the first slice)",
+            description = "Same filters as GET /api/tasks, without sort.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved tasks"),
+            @ApiResponse(responseCode = "400", description = "Bad request"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public Mono<ResponseEntity<CursorPageDTO<TaskDTO>>> getTasks(
+            @RequestParam(defaultValue = "") String after,
+            @RequestParam(defaultValue = "10") int size,
+            @ParameterObject @ModelAttribute TaskFilterDTO filter
+    ) {
+        return reactiveTaskService.getTasksAfter(after, size, filter).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get task by ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Task found and returned"),
+            @ApiResponse(responseCode = "304", description = "Task unchanged since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Task not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public Mono<ResponseEntity<TaskDTO>> getTaskById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        // Both publishers resolve the caller now, on the request thread; the task is only loaded
+        // when the tag does not match.
+        Mono<TaskDTO> task = reactiveTaskService.getTaskById(id);
+        return reactiveTaskService.getTaskETag(id)
+                .flatMap(etag -> ETags.notModified(ifNoneMatch, etag)
+                        ? Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<TaskDTO>build())
+                        : task.map(body -> ResponseEntity.ok()
+                                .eTag(etag)
+                                .cacheControl(CacheControl.noCache().cachePrivate())
+                                .body(body)));
+    }
+
+    @GetMapping("/user/{userId}")
+    @Operation(summary = "Get tasks assigned to a specific user with cursor pagination, starting after the given cursor (empty for the first slice)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved tasks"),
+            @ApiResponse(responseCode = "400", description = "Bad request"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public Mono<ResponseEntity<CursorPageDTO<TaskDTO>>> getTasksByAssignedUser(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "") String after,
+            @RequestParam(defaultValue = "10") int size,
+            @ParameterObject @ModelAttribute TaskFilterDTO filter
+    ) {
+        return reactiveTaskService.getTasksByAssignedUserAfter(userId, after, size, filter).map(ResponseEntity::ok);
+    }
+}
@@ -1,35 +1,75 @@
 package com.example.tasktrackerapi.controller;
 
+import com.example.tasktrackerapi.dtos.BulkReassignDTO;
+import com.example.tasktrackerapi.dtos.BulkStatusUpdateDTO;
+import com.example.tasktrackerapi.dtos.BulkUpdateResultDTO;
+import com.example.tasktrackerapi.dtos.CursorPageDTO;
 import com.example.tasktrackerapi.dtos.TaskAssignmentDTO;
+import com.example.tasktrackerapi.dtos.TaskBatchResultDTO;
 import com.example.tasktrackerapi.dtos.TaskCreateDTO;
 import com.example.tasktrackerapi.dtos.TaskDTO;
+import com.example.tasktrackerapi.dtos.TaskFilterDTO;
+import com.example.tasktrackerapi.dtos.TaskImportResultDTO;
+import com.example.tasktrackerapi.dtos.TaskStatsDTO;
 import com.example.tasktrackerapi.dtos.UpdateTaskStatusDTO;
-import com.example.tasktrackerapi.entity.TaskPriority;
-import com.example.tasktrackerapi.entity.TaskStatus;
+import com.example.tasktrackerapi.service.ETags;
+import com.example.tasktrackerapi.service.TaskBatchService;
+import com.example.tasktrackerapi.service.TaskCounterService;
+import com.example.tasktrackerapi.service.TaskExportService;
+import com.example.tasktrackerapi.service.TaskImportService;
 import com.example.tasktrackerapi.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/tasks")
 @AllArgsConstructor
 @Tag(name = "Tasks", description = "API for managing tasks")
 public class TaskController {
 
+    static final String NDJSON = "application/x-ndjson";
+
+    static final String CSV = "text/csv";
+
     private final TaskService taskService;
 
+    private final TaskBatchService taskBatchService;
+
+    private final TaskExportService taskExportService;
+
+    private final TaskImportService taskImportService;
+
+    private final TaskCounterService taskCounterService;
+
+    private final ObjectMapper objectMapper;
+
     @GetMapping
-    @Operation(summary = "Get all tasks with optional pagination, status, and priority filters")
+    @Operation(summary = "Get all tasks with pagination, optional filters and sort",
+            description = "Filters: status and priority (one or more values), projectId (one or more), " +
+                    "assigneeId, dueFrom/dueTo, overdue, createdSince. sort lists properties, '-' for descending.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved tasks"),
             @ApiResponse(responseCode = "400", description = "Bad request"),
@@ -40,27 +80,95 @@ public class TaskController {
     public ResponseEntity<Page<TaskDTO>> getAllTasks(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) TaskStatus status,
-            @RequestParam(required = false) TaskPriority priority
+            @ParameterObject @ModelAttribute TaskFilterDTO filter
     ) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<TaskDTO> tasks = taskService.getTasks(pageable, status, priority);
+        Page<TaskDTO> tasks = taskService.getTasks(filter, pageable);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping(params = "after")
+    @Operation(summary = "Get tasks with cursor pagination, starting after the given cursor (empty for the first slice)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved tasks"),
+            @ApiResponse(responseCode = "400", description = "Bad request"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<CursorPageDTO<TaskDTO>> getAllTasksAfter(
+            @RequestParam(defaultValue = "") String after,
+            @RequestParam(defaultValue = "10") int size,
+            @ParameterObject @ModelAttribute TaskFilterDTO filter
+    ) {
+        CursorPageDTO<TaskDTO> tasks = taskService.getTasksAfter(after, size, filter);
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping(value = "/export", produces = TaskController.NDJSON)
+    @Operation(summary = "Export all visible tasks as newline-delimited JSON",
+            description = "Streams one task per line, with the same filters as the listing.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks streamed"),
+            @ApiResponse(responseCode = "400", description = "Bad request"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public void exportTasks(
+            @ParameterObject @ModelAttribute TaskFilterDTO filter,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.ndjson\"");
+        taskExportService.exportTasks(filter, response.getOutputStream());
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Count tasks per status and priority in a project and/or for an assignee",
+            description = "Served from counters maintained on every write, not by scanning tasks. " +
+                    "Without projectId and assigneeId the counts cover all tasks (ADMIN only).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved counts"),
+            @ApiResponse(responseCode = "400", description = "Bad request"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Project or user not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<TaskStatsDTO> getTaskStats(
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long assigneeId
+    ) {
+        return ResponseEntity.ok(taskCounterService.getStats(projectId, assigneeId));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get task by ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Task found and returned"),
+            @ApiResponse(responseCode = "304", description = "Task unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "400", description = "Bad request"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Forbidden"),
             @ApiResponse(responseCode = "404", description = "Task not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<TaskDTO> getTaskById(@PathVariable Long id) {
+    public ResponseEntity<TaskDTO> getTaskById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        // Tag first, before the task is loaded: a conditional read may end here, and a write
+        // racing with the load below can only make the tag older than the body, never newer.
+        String etag = taskService.getTaskETag(id);
+        if (ETags.notModified(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         TaskDTO task = taskService.getTaskById(id);
-        return ResponseEntity.ok(task);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(task);
     }
 
     @PostMapping
@@ -77,6 +185,77 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Create many tasks at once",
+            description = "Items are validated and authorized one by one; failed items are reported " +
+                    "with their index and do not prevent the others from being created.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "All tasks successfully created"),
+            @ApiResponse(responseCode = "207", description = "Some tasks could not be created"),
+            @ApiResponse(responseCode = "400", description = "Bad request"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<TaskBatchResultDTO> createTasks(@RequestBody List<TaskCreateDTO> taskDTOs) {
+        TaskBatchResultDTO result = taskBatchService.createTasks(taskDTOs);
+        HttpStatus status = result.getFailedCount() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(result);
+    }
+
+    @PostMapping(value = "/import", consumes = {TaskController.NDJSON, TaskController.CSV})
+    @Operation(summary = "Import tasks from an NDJSON or CSV upload",
+            description = "The body is read as it arrives and written in chunks. CSV needs a header line with " +
+                    "columns from: title, description, status, priority, dueDate, projectId, assigneeEmail.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished; the body lists failed lines"),
+            @ApiResponse(responseCode = "400", description = "Bad request"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "415", description = "Unsupported content type"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<TaskImportResultDTO> importTasks(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(taskImportService.importTasks(request.getInputStream(), importFormat(request)));
+    }
+
+    @PostMapping(value = "/import", consumes = {TaskController.NDJSON, TaskController.CSV}, produces = TaskController.NDJSON)
+    @Operation(summary = "Import tasks and stream progress as NDJSON",
+            description = "Same as the plain import, but writes one line of running totals after every chunk " +
+                    "and the full result, including the failed lines, as the last line.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Progress lines followed by the import result"),
+            @ApiResponse(responseCode = "400", description = "Bad request"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "415", description = "Unsupported content type"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public void importTasksWithProgress(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        TaskImportService.Format format = importFormat(request);
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream out = response.getOutputStream();
+        TaskImportResultDTO result = taskImportService.importTasks(request.getInputStream(), format, progress -> {
+            try {
+                writeLine(out, progress);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writeLine(out, result);
+    }
+
+    private static TaskImportService.Format importFormat(HttpServletRequest request) {
+        return MediaType.parseMediaType(CSV).isCompatibleWith(MediaType.parseMediaType(request.getContentType()))
+                ? TaskImportService.Format.CSV
+                : TaskImportService.Format.NDJSON;
+    }
+
+    private void writeLine(OutputStream out, Object value) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(value));
+        out.write('\n');
+        // flushing commits the response, so the client sees each chunk as soon as it is written
+        out.flush();
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update an existing task by ID")
     @ApiResponses(value = {
@@ -85,14 +264,16 @@ public class TaskController {
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Forbidden"),
             @ApiResponse(responseCode = "404", description = "Task not found"),
+            @ApiResponse(responseCode = "412", description = "Task changed since the ETag in If-Match"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<TaskDTO> updateTask(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TaskCreateDTO taskDTO
     ) {
-        TaskDTO updated = taskService.updateTask(id, taskDTO);
-        return ResponseEntity.ok(updated);
+        TaskDTO updated = taskService.updateTask(id, taskDTO, ifMatch);
+        return ResponseEntity.ok().eTag(taskService.getTaskETag(id)).body(updated);
     }
 
     @DeleteMapping("/{id}")
@@ -125,6 +306,35 @@ public class TaskController {
         return ResponseEntity.ok(task);
     }
 
+    @PutMapping("/bulk/status")
+    @Operation(summary = "Set the status of many tasks at once",
+            description = "Selects tasks by taskIds, or by projectId optionally narrowed by currentStatus. " +
+                    "Only tasks the caller may access are updated.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks updated; the body holds the count"),
+            @ApiResponse(responseCode = "400", description = "Bad request"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "404", description = "Project not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<BulkUpdateResultDTO> updateTaskStatuses(@Valid @RequestBody BulkStatusUpdateDTO dto) {
+        return ResponseEntity.ok(taskService.updateTaskStatuses(dto));
+    }
+
+    @PutMapping("/bulk/reassign")
+    @Operation(summary = "Reassign all of a user's open tasks to another user")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks reassigned; the body holds the count"),
+            @ApiResponse(responseCode = "400", description = "Bad request"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<BulkUpdateResultDTO> reassignOpenTasks(@Valid @RequestBody BulkReassignDTO dto) {
+        return ResponseEntity.ok(taskService.reassignOpenTasks(dto));
+    }
+
     @PutMapping("/{id}/status")
     @Operation(summary = "Update the status of a task")
     @ApiResponses(value = {
@@ -133,18 +343,20 @@ public class TaskController {
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Forbidden"),
             @ApiResponse(responseCode = "404", description = "Task not found"),
+            @ApiResponse(responseCode = "412", description = "Task changed since the ETag in If-Match"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<TaskDTO> updateTaskStatus(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateTaskStatusDTO dto
     ) {
-        TaskDTO updatedTask = taskService.updateTaskStatus(id, dto);
-        return ResponseEntity.ok(updatedTask);
+        TaskDTO updatedTask = taskService.updateTaskStatus(id, dto, ifMatch);
+        return ResponseEntity.ok().eTag(taskService.getTaskETag(id)).body(updatedTask);
     }
 
     @GetMapping("/user/{userId}")
-    @Operation(summary = "Get tasks assigned to a specific user with optional pagination, status, and priority filters")
+    @Operation(summary = "Get tasks assigned to a specific user with pagination, optional filters and sort")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved tasks"),
             @ApiResponse(responseCode = "400", description = "Bad request"),
@@ -157,11 +369,30 @@ public class TaskController {
             @PathVariable Long userId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) TaskStatus status,
-            @RequestParam(required = false) TaskPriority priority
+            @ParameterObject @ModelAttribute TaskFilterDTO filter
     ) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<TaskDTO> tasks = taskService.getTasksByAssignedUser(userId, pageable, status, priority);
+        Page<TaskDTO> tasks = taskService.getTasksByAssignedUser(userId, filter, pageable);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping(value = "/user/{userId}", params = "after")
+    @Operation(summary = "Get tasks assigned to a specific user with cursor pagination, starting after the given cursor (empty for the first slice)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved tasks"),
+            @ApiResponse(responseCode = "400", description = "Bad request"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<CursorPageDTO<TaskDTO>> getTasksByAssignedUserAfter(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "") String after,
+            @RequestParam(defaultValue = "10") int size,
+            @ParameterObject @ModelAttribute TaskFilterDTO filter
+    ) {
+        CursorPageDTO<TaskDTO> tasks = taskService.getTasksByAssignedUserAfter(userId, after, size, filter);
         return ResponseEntity.ok(tasks);
     }
 }
@@ -0,0 +1,20 @@
+package com.example.tasktrackerapi.dtos;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkReassignDTO {
+
+    @NotNull(message = "Source user ID is required")
+    private Long fromUserId;
+
+    @NotNull(message = "Target user ID is required")
+    private Long toUserId;
+}
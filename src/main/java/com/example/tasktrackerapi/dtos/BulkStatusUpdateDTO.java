@@ -0,0 +1,32 @@
+package com.example.tasktrackerapi.dtos;
+
+import com.example.tasktrackerapi.entity.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Selects tasks either by {@code taskIds} or by {@code projectId} (optionally narrowed to
+ * tasks currently in {@code currentStatus}) and moves them to {@code status}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateDTO {
+
+    @Size(max = 1000, message = "Cannot update more than 1000 tasks by id at once")
+    private List<Long> taskIds;
+
+    private Long projectId;
+
+    private TaskStatus currentStatus;
+
+    @NotNull(message = "Status is required")
+    private TaskStatus status;
+}
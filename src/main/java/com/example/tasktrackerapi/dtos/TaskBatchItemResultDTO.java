@@ -0,0 +1,28 @@
+package com.example.tasktrackerapi.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchItemResultDTO {
+
+    /** Position of the item in the submitted list. */
+    private int index;
+
+    private boolean created;
+
+    private TaskDTO task;
+
+    private String error;
+
+    public static TaskBatchItemResultDTO created(int index, TaskDTO task) {
+        return new TaskBatchItemResultDTO(index, true, task, null);
+    }
+
+    public static TaskBatchItemResultDTO failed(int index, String error) {
+        return new TaskBatchItemResultDTO(index, false, null, error);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.tasktrackerapi.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchResultDTO {
+
+    private int createdCount;
+
+    private int failedCount;
+
+    private List<TaskBatchItemResultDTO> items;
+}
@@ -0,0 +1,52 @@
+package com.example.tasktrackerapi.dtos;
+
+import com.example.tasktrackerapi.entity.TaskPriority;
+import com.example.tasktrackerapi.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Query parameters of the task listings. Every field is optional and they combine with AND;
+ * list fields match any of their values ({@code status=TODO,IN_PROGRESS}).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilterDTO {
+
+    private List<TaskStatus> status;
+
+    private List<TaskPriority> priority;
+
+    private List<Long> projectId;
+
+    private Long assigneeId;
+
+    /** Due on or after this date. */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueFrom;
+
+    /** Due on or before this date. */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueTo;
+
+    /** Only tasks past their due date that are not DONE. */
+    private boolean overdue;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdSince;
+
+    /**
+     * Comma-separated properties to sort by, each optionally prefixed with {@code -} for
+     * descending order, e.g. {@code -priority,dueDate}. Page listings only.
+     */
+    private String sort;
+}
@@ -0,0 +1,16 @@
+package com.example.tasktrackerapi.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportErrorDTO {
+
+    /** 1-based line number in the uploaded file. */
+    private long line;
+
+    private String message;
+}
@@ -0,0 +1,18 @@
+package com.example.tasktrackerapi.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Running totals of an import, reported after each written chunk. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportProgressDTO {
+
+    private long processedCount;
+
+    private long createdCount;
+
+    private long failedCount;
+}
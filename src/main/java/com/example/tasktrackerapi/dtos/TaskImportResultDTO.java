@@ -0,0 +1,23 @@
+package com.example.tasktrackerapi.dtos;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class TaskImportResultDTO {
+
+    private long processedCount;
+
+    private long createdCount;
+
+    private long failedCount;
+
+    private List<TaskImportErrorDTO> errors = new ArrayList<>();
+
+    /** Set when more lines failed than are listed in {@link #errors}. */
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,30 @@
+package com.example.tasktrackerapi.dtos;
+
+import com.example.tasktrackerapi.entity.TaskPriority;
+import com.example.tasktrackerapi.entity.TaskStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Task counts for a project and/or an assignee. Every status and priority is listed, with 0
+ * where there are no tasks.
+ */
+@Data
+@NoArgsConstructor
+public class TaskStatsDTO {
+
+    private Long projectId;
+
+    private Long assigneeId;
+
+    private long total;
+
+    private Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+
+    private Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+
+    private Map<TaskStatus, Map<TaskPriority, Long>> byStatusAndPriority = new EnumMap<>(TaskStatus.class);
+}
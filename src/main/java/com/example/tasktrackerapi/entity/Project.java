@@ -3,6 +3,8 @@ package com.example.tasktrackerapi.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -12,10 +14,27 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Table(name = "projects")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Project.CACHE_REGION)
+@NamedEntityGraph(name = Project.GRAPH_DETAIL,
+        attributeNodes = {
+                @NamedAttributeNode("owner"),
+                @NamedAttributeNode(value = "tasks", subgraph = "tasks")
+        },
+        subgraphs = @NamedSubgraph(name = "tasks", attributeNodes = @NamedAttributeNode("assignedUser")))
+@NamedEntityGraph(name = Project.GRAPH_SUMMARY, attributeNodes = @NamedAttributeNode("owner"))
 public class Project {
 
+    public static final String CACHE_REGION = "projects";
+
+    /** A project with its owner and tasks, as returned by the single-project endpoints. */
+    public static final String GRAPH_DETAIL = "Project.detail";
+
+    /** A project with its owner only, for listings that do not embed tasks. */
+    public static final String GRAPH_SUMMARY = "Project.summary";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_seq")
+    @SequenceGenerator(name = "projects_seq", sequenceName = "projects_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -27,22 +46,29 @@ public class Project {
 
     private LocalDateTime updateDate;
 
+    @Version
+    private Long version;
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<Task> tasks;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User owner;
 
     @PrePersist
     protected void onCreate() {
-        createDate = LocalDateTime.now();
-        updateDate = LocalDateTime.now();
+        createDate = Task.now();
+        updateDate = Task.now();
     }
 
     @PreUpdate
     protected void onUpdate() {
-        updateDate = LocalDateTime.now();
+        updateDate = Task.now();
     }
 }
@@ -4,9 +4,16 @@ import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
 @Table(name = "tasks")
+@NamedEntityGraph(name = Task.GRAPH_DETAIL, attributeNodes = {
+        @NamedAttributeNode("project"),
+        @NamedAttributeNode("assignedUser")
+})
+@NamedEntityGraph(name = Task.GRAPH_AUTHORIZATION, attributeNodes = @NamedAttributeNode("project"))
+@NamedEntityGraph(name = Task.GRAPH_LIST, attributeNodes = @NamedAttributeNode("assignedUser"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -14,8 +21,18 @@ import java.time.LocalDateTime;
 @Builder
 public class Task {
 
+    /** Everything a single task response and its authorization check need. */
+    public static final String GRAPH_DETAIL = "Task.detail";
+
+    /** Just enough to run the owner/assignee/ADMIN check: the project, for its owner id. */
+    public static final String GRAPH_AUTHORIZATION = "Task.authorization";
+
+    /** Entity lists mapped to DTOs, which only need the assignee's email. */
+    public static final String GRAPH_LIST = "Task.list";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -33,11 +50,11 @@ public class Task {
     @Column(nullable = false)
     private TaskPriority priority;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assigned_user_id")
     private User assignedUser;
 
@@ -46,14 +63,27 @@ public class Task {
 
     private LocalDateTime updateDate;
 
+    /** Checked and incremented on every update; a stale version fails the update. */
+    @Version
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
-        createDate = LocalDateTime.now();
-        updateDate = LocalDateTime.now();
+        createDate = now();
+        updateDate = now();
     }
 
     @PreUpdate
     protected void onUpdate() {
-        updateDate = LocalDateTime.now();
+        updateDate = now();
+    }
+
+    /**
+     * The current time at the precision the timestamp columns store, so values compared
+     * against the database (e.g. keyset cursors) match the persisted row. Bulk updates that
+     * bypass {@link #onUpdate()} use it to set {@code updateDate} themselves.
+     */
+    public static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
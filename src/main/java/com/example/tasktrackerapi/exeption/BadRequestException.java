@@ -0,0 +1,10 @@
+package com.example.tasktrackerapi.exeption;
+
+public class BadRequestException extends RuntimeException {
+    public BadRequestException() {
+        super("Bad request");
+    }
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -6,6 +6,7 @@ import com.example.tasktrackerapi.entity.Project;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 
 import java.util.List;
 
@@ -14,12 +15,19 @@ public interface ProjectMapper {
 
     ProjectDTO toDto(Project project);
 
+    @Named("summary")
+    @Mapping(target = "tasks", ignore = true)
+    ProjectDTO toSummaryDto(Project project);
+
     List<ProjectDTO> toDtos(List<Project> projects);
 
+    @Mapping(target = "version", ignore = true)
     Project toEntity(ProjectDTO projectDTO);
 
+    @Mapping(target = "version", ignore = true)
     Project toEntity(ProjectCreateDTO projectDTO);
 
+    @Mapping(target = "version", ignore = true)
     void updateEntity(ProjectCreateDTO dto, @MappingTarget Project entity);
 
 }
@@ -2,8 +2,11 @@ package com.example.tasktrackerapi.mapper;
 
 import com.example.tasktrackerapi.dtos.TaskCreateDTO;
 import com.example.tasktrackerapi.dtos.TaskDTO;
+import com.example.tasktrackerapi.dtos.UserResponseDTO;
 import com.example.tasktrackerapi.entity.Task;
+import com.example.tasktrackerapi.repository.TaskRow;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
 import java.util.List;
@@ -11,16 +14,28 @@ import java.util.List;
 @Mapper(componentModel = "spring", uses = {TaskMapper.class,UserMapper.class})
 public interface TaskMapper {
 
+    @Mapping(source = "project.id", target = "projectId")
     TaskDTO toDto(Task task);
 
+    @Mapping(source = "assigneeEmail", target = "assignedUser")
+    TaskDTO toDto(TaskRow row);
+
+    default UserResponseDTO toAssignee(String email) {
+        return email == null ? null : new UserResponseDTO(email);
+    }
+
     List<TaskDTO> toDtos(List<Task> tasks);
 
+    @Mapping(target = "version", ignore = true)
     Task toEntity(TaskDTO projectDTO);
 
+    @Mapping(target = "version", ignore = true)
     Task toEntity(TaskCreateDTO projectDTO);
 
+    @Mapping(target = "version", ignore = true)
     void updateEntity(TaskDTO dto, @MappingTarget Task entity);
 
+    @Mapping(target = "version", ignore = true)
     void updateEntity(TaskCreateDTO dto, @MappingTarget Task entity);
 
 }
@@ -1,11 +1,31 @@
 package com.example.tasktrackerapi.repository;
 
 import com.example.tasktrackerapi.entity.Project;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     public Optional<Project> findByName(String name);
+
+    @EntityGraph(Project.GRAPH_DETAIL)
+    Optional<Project> findDetailedById(Long id);
+
+    @EntityGraph(Project.GRAPH_SUMMARY)
+    @Query(value = "select p from Project p",
+            countQuery = "select count(p) from Project p")
+    Page<Project> findAllWithOwner(Pageable pageable);
+
+    /** The {@link ProjectVersion} of a project, in one aggregate query that loads no entities. */
+    @Query("select new com.example.tasktrackerapi.repository.ProjectVersion(" +
+            "p.updateDate, o.updateDate, max(t.updateDate), max(a.updateDate), count(t)) " +
+            "from Project p left join p.owner o left join p.tasks t left join t.assignedUser a " +
+            "where p.id = :id group by p.id, p.updateDate, o.updateDate")
+    Optional<ProjectVersion> findVersionById(@Param("id") Long id);
 }
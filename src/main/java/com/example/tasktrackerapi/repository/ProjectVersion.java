@@ -0,0 +1,51 @@
+package com.example.tasktrackerapi.repository;
+
+import com.example.tasktrackerapi.entity.Project;
+import com.example.tasktrackerapi.entity.Task;
+import com.example.tasktrackerapi.entity.User;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * What the project detail representation depends on: the latest update of the project, its
+ * owner, its tasks and their assignees, plus the number of tasks, so that deleting a task also
+ * changes it.
+ */
+@Value
+public class ProjectVersion {
+
+    LocalDateTime lastUpdate;
+
+    long taskCount;
+
+    public ProjectVersion(LocalDateTime lastUpdate, long taskCount) {
+        this.lastUpdate = lastUpdate;
+        this.taskCount = taskCount;
+    }
+
+    /** Used by {@link ProjectRepository#findVersionById}. */
+    public ProjectVersion(LocalDateTime projectUpdate, LocalDateTime ownerUpdate, LocalDateTime taskUpdate,
+                          LocalDateTime assigneeUpdate, long taskCount) {
+        this(latest(Stream.of(projectUpdate, ownerUpdate, taskUpdate, assigneeUpdate)), taskCount);
+    }
+
+    /** The same version computed from a project loaded with {@link Project#GRAPH_DETAIL}. */
+    public static ProjectVersion of(Project project) {
+        List<Task> tasks = project.getTasks() == null ? List.of() : project.getTasks();
+        Stream<LocalDateTime> dates = Stream.concat(
+                Stream.of(project.getUpdateDate(), updateDate(project.getOwner())),
+                tasks.stream().flatMap(task -> Stream.of(task.getUpdateDate(), updateDate(task.getAssignedUser()))));
+        return new ProjectVersion(latest(dates), tasks.size());
+    }
+
+    private static LocalDateTime updateDate(User user) {
+        return user == null ? null : user.getUpdateDate();
+    }
+
+    private static LocalDateTime latest(Stream<LocalDateTime> dates) {
+        return dates.filter(date -> date != null).max(LocalDateTime::compareTo).orElse(null);
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.tasktrackerapi.repository;
+
+import com.example.tasktrackerapi.dtos.TaskFilterDTO;
+import com.example.tasktrackerapi.entity.TaskPriority;
+import com.example.tasktrackerapi.entity.TaskStatus;
+import io.r2dbc.spi.Readable;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Task reads for the reactive API, over the same tables as {@link TaskRepository} but through
+ * R2DBC. Conditions mirror {@link TaskSpecifications} and are added in the same index order.
+ * Every query is subscribed on the reactive database scheduler, since r2dbc-h2 would otherwise
+ * run it on the caller's thread.
+ */
+@Repository
+@AllArgsConstructor
+public class ReactiveTaskRepository {
+
+    private static final String SELECT_ROW = "select t.id, t.title, t.description, t.status, t.priority, " +
+            "t.due_date, t.project_id, u.email, t.create_date, t.update_date, t.assigned_user_id, p.owner_id " +
+            "from tasks t join projects p on p.id = t.project_id left join users u on u.id = t.assigned_user_id";
+
+    private final DatabaseClient reactiveDatabaseClient;
+
+    private final Scheduler reactiveDatabaseScheduler;
+
+    /**
+     * Task with the ids its access is decided by.
+     */
+    @Value
+    public static class AccessibleRow {
+
+        TaskRow row;
+
+        Long ownerId;
+
+        Long assigneeId;
+    }
+
+    public Mono<TaskVersion> findVersionById(Long id) {
+        return reactiveDatabaseClient.sql("select t.version, p.owner_id, t.assigned_user_id " +
+                        "from tasks t join projects p on p.id = t.project_id where t.id = :id")
+                .bind("id", id)
+                .map(row -> new TaskVersion(row.get("version", Long.class), row.get("owner_id", Long.class),
+                        row.get("assigned_user_id", Long.class)))
+                .one()
+                .subscribeOn(reactiveDatabaseScheduler);
+    }
+
+    public Mono<AccessibleRow> findById(Long id) {
+        return reactiveDatabaseClient.sql(SELECT_ROW + " where t.id = :id")
+                .bind("id", id)
+                .map(row -> new AccessibleRow(toRow(row), row.get("owner_id", Long.class),
+                        row.get("assigned_user_id", Long.class)))
+                .one()
+                .subscribeOn(reactiveDatabaseScheduler);
+    }
+
+    /**
+     * Up to {@code limit} tasks in (createDate, id) order after the given position, or from the
+     * start when {@code createDate} is {@code null}.
+     *
+     * @param viewerId   only tasks in projects this user owns or assigned to this user, unless {@code admin}
+     * @param assignedTo only tasks assigned to this user, or {@code null} for any
+     */
+    public Flux<TaskRow> findRowsAfter(Long viewerId, boolean admin, Long assignedTo, TaskFilterDTO filter,
+                                       LocalDateTime createDate, Long id, int limit) {
+        StringBuilder where = new StringBuilder(" where 1 = 1");
+        Map<String, Object> params = new LinkedHashMap<>();
+        if (!admin) {
+            where.append(" and (p.owner_id = :viewerId or t.assigned_user_id = :viewerId)");
+            params.put("viewerId", viewerId);
+        }
+        if (assignedTo != null) {
+            where.append(" and t.assigned_user_id = :assignedTo");
+            params.put("assignedTo", assignedTo);
+        }
+        if (filter.getAssigneeId() != null) {
+            where.append(" and t.assigned_user_id = :assigneeId");
+            params.put("assigneeId", filter.getAssigneeId());
+        }
+        addEqualOrIn(where, params, "t.project_id", "projectId", filter.getProjectId());
+        addEqualOrIn(where, params, "t.status", "status",
+                filter.getStatus() == null ? null : filter.getStatus().stream().map(TaskStatus::name).toList());
+        addEqualOrIn(where, params, "t.priority", "priority",
+                filter.getPriority() == null ? null : filter.getPriority().stream().map(TaskPriority::name).toList());
+        if (filter.getDueFrom() != null) {
+            where.append(" and t.due_date >= :dueFrom");
+            params.put("dueFrom", filter.getDueFrom());
+        }
+        if (filter.getDueTo() != null) {
+            where.append(" and t.due_date <= :dueTo");
+            params.put("dueTo", filter.getDueTo());
+        }
+        if (filter.isOverdue()) {
+            where.append(" and t.due_date < :today and t.status <> :done");
+            params.put("today", LocalDate.now());
+            params.put("done", TaskStatus.DONE.name());
+        }
+        if (filter.getCreatedSince() != null) {
+            where.append(" and t.create_date >= :createdSince");
+            params.put("createdSince", filter.getCreatedSince());
+        }
+        if (createDate != null) {
+            where.append(" and (t.create_date > :afterCreateDate or (t.create_date = :afterCreateDate and t.id > :afterId))");
+            params.put("afterCreateDate", createDate);
+            params.put("afterId", id);
+        }
+        params.put("limit", limit);
+
+        return reactiveDatabaseClient.sql(SELECT_ROW + where + " order by t.create_date, t.id fetch first :limit rows only")
+                .bindValues(params)
+                .map(ReactiveTaskRepository::toRow)
+                .all()
+                .subscribeOn(reactiveDatabaseScheduler);
+    }
+
+    public Mono<Boolean> userExists(Long userId) {
+        return reactiveDatabaseClient.sql("select count(*) from users where id = :id")
+                .bind("id", userId)
+                .map(row -> row.get(0, Long.class) > 0)
+                .one()
+                .subscribeOn(reactiveDatabaseScheduler);
+    }
+
+    private static void addEqualOrIn(StringBuilder where, Map<String, Object> params, String column, String name,
+                                     Collection<?> values) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        if (values.size() == 1) {
+            where.append(" and ").append(column).append(" = :").append(name);
+            params.put(name, values.iterator().next());
+        } else {
+            where.append(" and ").append(column).append(" in (:").append(name).append(")");
+            params.put(name, List.copyOf(values));
+        }
+    }
+
+    private static TaskRow toRow(Readable row) {
+        return new TaskRow(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                TaskStatus.valueOf(row.get("status", String.class)),
+                TaskPriority.valueOf(row.get("priority", String.class)),
+                row.get("due_date", LocalDate.class),
+                row.get("project_id", Long.class),
+                row.get("email", String.class),
+                row.get("create_date", LocalDateTime.class),
+                row.get("update_date", LocalDateTime.class));
+    }
+}
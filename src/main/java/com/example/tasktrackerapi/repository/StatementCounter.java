@@ -0,0 +1,37 @@
+package com.example.tasktrackerapi.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #start()}
+ * and {@link #stop()}. Outside of that it only reads a thread local, so statements issued by
+ * background jobs cost nothing extra.
+ */
+@Component
+public class StatementCounter implements StatementInspector {
+
+    private final ThreadLocal<int[]> count = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] current = count.get();
+        if (current != null) {
+            current[0]++;
+        }
+        return sql;
+    }
+
+    public void start() {
+        count.set(new int[1]);
+    }
+
+    /**
+     * Stops counting on this thread and returns the statements counted, or -1 if counting was not started.
+     */
+    public int stop() {
+        int[] current = count.get();
+        count.remove();
+        return current == null ? -1 : current[0];
+    }
+}
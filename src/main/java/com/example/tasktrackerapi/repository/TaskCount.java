@@ -0,0 +1,34 @@
+package com.example.tasktrackerapi.repository;
+
+import com.example.tasktrackerapi.entity.Task;
+import com.example.tasktrackerapi.entity.TaskPriority;
+import com.example.tasktrackerapi.entity.TaskStatus;
+import lombok.Value;
+import lombok.With;
+
+/**
+ * A number of tasks sharing a project, assignee, status and priority; as a change, the number
+ * of tasks that entered ({@code count > 0}) or left that group. {@code assigneeId} is
+ * {@code null} for unassigned tasks.
+ */
+@Value
+@With
+public class TaskCount {
+
+    Long projectId;
+
+    Long assigneeId;
+
+    TaskStatus status;
+
+    TaskPriority priority;
+
+    long count;
+
+    /** The group the task is counted in, with a count of one. */
+    public static TaskCount of(Task task) {
+        return new TaskCount(task.getProject().getId(),
+                task.getAssignedUser() == null ? null : task.getAssignedUser().getId(),
+                task.getStatus(), task.getPriority(), 1);
+    }
+}
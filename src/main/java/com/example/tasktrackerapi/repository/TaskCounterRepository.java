@@ -0,0 +1,144 @@
+package com.example.tasktrackerapi.repository;
+
+import com.example.tasktrackerapi.entity.TaskPriority;
+import com.example.tasktrackerapi.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The {@code task_counters} and {@code task_counter_deltas} tables. They have no entities:
+ * every access is a set-based statement, run through JDBC in the caller's transaction.
+ * Unassigned tasks are stored under assignee id 0 and read back as {@code null}.
+ */
+@Repository
+@AllArgsConstructor
+public class TaskCounterRepository {
+
+    private static final long UNASSIGNED = 0L;
+
+    private static final String MERGE_COUNTER = "merge into task_counters c " +
+            "using (values (cast(? as bigint), cast(? as bigint), cast(? as varchar(255)), cast(? as varchar(255)), " +
+            "cast(? as bigint))) d (project_id, assignee_id, status, priority, delta) " +
+            "on c.project_id = d.project_id and c.assignee_id = d.assignee_id " +
+            "and c.status = d.status and c.priority = d.priority " +
+            "when matched then update set task_count = c.task_count + d.delta " +
+            "when not matched then insert (project_id, assignee_id, status, priority, task_count) " +
+            "values (d.project_id, d.assignee_id, d.status, d.priority, d.delta)";
+
+    // Tasks count +1 and recorded counts -1 per group, so any group that does not add up to zero has drifted.
+    private static final String FIND_DRIFT = "select project_id, assignee_id, status, priority, sum(n) as n from (" +
+            "select project_id, coalesce(assigned_user_id, 0) as assignee_id, status, priority, 1 as n from tasks " +
+            "union all select project_id, assignee_id, status, priority, -task_count from task_counters " +
+            "union all select project_id, assignee_id, status, priority, -delta from task_counter_deltas" +
+            ") recorded group by project_id, assignee_id, status, priority having sum(n) <> 0";
+
+    private static final RowMapper<TaskCount> GROUP_ROW = (rs, rowNum) -> new TaskCount(
+            rs.getLong("project_id"),
+            rs.getLong("assignee_id") == UNASSIGNED ? null : rs.getLong("assignee_id"),
+            TaskStatus.valueOf(rs.getString("status")),
+            TaskPriority.valueOf(rs.getString("priority")),
+            rs.getLong("n"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertDeltas(Collection<TaskCount> deltas) {
+        jdbcTemplate.batchUpdate("insert into task_counter_deltas (project_id, assignee_id, status, priority, delta) " +
+                "values (?, ?, ?, ?, ?)", toArgs(deltas));
+    }
+
+    /**
+     * Recorded counts per status and priority, optionally narrowed to a project and/or an
+     * assignee; deltas not merged yet are included.
+     */
+    public List<TaskCount> sumByStatusAndPriority(Long projectId, Long assigneeId) {
+        StringBuilder where = new StringBuilder(" where 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (projectId != null) {
+            where.append(" and project_id = ?");
+            args.add(projectId);
+        }
+        if (assigneeId != null) {
+            where.append(" and assignee_id = ?");
+            args.add(assigneeId);
+        }
+        List<Object> bothArgs = new ArrayList<>(args);
+        bothArgs.addAll(args);
+
+        return jdbcTemplate.query("select status, priority, sum(n) as n from (" +
+                        "select status, priority, task_count as n from task_counters" + where +
+                        " union all select status, priority, delta from task_counter_deltas" + where +
+                        ") recorded group by status, priority",
+                (rs, rowNum) -> new TaskCount(projectId, assigneeId,
+                        TaskStatus.valueOf(rs.getString("status")),
+                        TaskPriority.valueOf(rs.getString("priority")),
+                        rs.getLong("n")),
+                bothArgs.toArray());
+    }
+
+    /**
+     * Removes up to {@code limit} of the oldest deltas and returns them summed per group. A delta
+     * that another transaction removed first is skipped, so concurrent callers never both fold in
+     * the same delta.
+     */
+    public List<TaskCount> takeDeltas(int limit) {
+        Map<Long, TaskCount> deltas = jdbcTemplate.query(
+                        "select id, project_id, assignee_id, status, priority, delta as n " +
+                                "from task_counter_deltas order by id fetch first ? rows only",
+                        (rs, rowNum) -> Map.entry(rs.getLong("id"), GROUP_ROW.mapRow(rs, rowNum)),
+                        limit)
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        if (deltas.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = new ArrayList<>(deltas.keySet());
+        int[] deleted = jdbcTemplate.batchUpdate("delete from task_counter_deltas where id = ?",
+                ids.stream().map(id -> new Object[]{id}).toList());
+        List<TaskCount> taken = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            if (deleted[i] > 0) {
+                taken.add(deltas.get(ids.get(i)));
+            }
+        }
+
+        return taken.stream()
+                .collect(Collectors.groupingBy(delta -> delta.withCount(0), Collectors.summingLong(TaskCount::getCount)))
+                .entrySet().stream()
+                .filter(group -> group.getValue() != 0)
+                .map(group -> group.getKey().withCount(group.getValue()))
+                .toList();
+    }
+
+    public void addToCounters(Collection<TaskCount> deltas) {
+        jdbcTemplate.batchUpdate(MERGE_COUNTER, toArgs(deltas));
+        jdbcTemplate.update("delete from task_counters where task_count = 0");
+    }
+
+    /**
+     * Groups whose recorded count differs from the tasks actually stored, with the difference
+     * (actual minus recorded) as count. A single statement, so it sees one consistent snapshot.
+     */
+    public List<TaskCount> findDrift() {
+        return jdbcTemplate.query(FIND_DRIFT, GROUP_ROW);
+    }
+
+    private static List<Object[]> toArgs(Collection<TaskCount> counts) {
+        return counts.stream()
+                .map(count -> new Object[]{
+                        count.getProjectId(),
+                        count.getAssigneeId() == null ? UNASSIGNED : count.getAssigneeId(),
+                        count.getStatus().name(),
+                        count.getPriority().name(),
+                        count.getCount()})
+                .toList();
+    }
+}
@@ -1,32 +1,91 @@
 package com.example.tasktrackerapi.repository;
 
 import com.example.tasktrackerapi.entity.Task;
-import com.example.tasktrackerapi.entity.TaskPriority;
 import com.example.tasktrackerapi.entity.TaskStatus;
 import com.example.tasktrackerapi.entity.User;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskRowRepository {
+
+    /** JPQL form of {@link TaskSpecifications#visibleTo}, for bulk statements that cannot take a Specification. */
+    String VISIBLE_TO_USER = "(:admin = true or t.assignedUser.id = :userId " +
+            "or t.project.id in (select p.id from Project p where p.owner.id = :userId))";
+
+    /** Selects {@link TaskCount} groups; append a where clause and {@link #GROUP_BY_COUNT}. */
+    String SELECT_COUNT = "select new com.example.tasktrackerapi.repository.TaskCount(" +
+            "t.project.id, a.id, t.status, t.priority, count(t)) from Task t left join t.assignedUser a ";
+
+    String GROUP_BY_COUNT = " group by t.project.id, a.id, t.status, t.priority";
 
     Optional<Task> findByTitle(String title);
 
-    Page<Task> findByStatus(TaskStatus status, Pageable pageable);
+    @EntityGraph(Task.GRAPH_DETAIL)
+    Optional<Task> findDetailedById(Long id);
+
+    @EntityGraph(Task.GRAPH_AUTHORIZATION)
+    Optional<Task> findForAuthorizationById(Long id);
+
+    @Query("select new com.example.tasktrackerapi.repository.TaskVersion(t.version, o.id, a.id) " +
+            "from Task t join t.project p left join p.owner o left join t.assignedUser a where t.id = :id")
+    Optional<TaskVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * The first {@code limit} tasks (by id) of each of the given projects, fetched in a single query.
+     * The tasks are numbered per project in one pass over the projects' tasks, so the cost grows
+     * linearly with project size.
+     */
+    @EntityGraph(Task.GRAPH_LIST)
+    @Query("select t from Task t " +
+            "where t.id in (select r.id from (" +
+            "select o.id as id, row_number() over (partition by o.project.id order by o.id) as position " +
+            "from Task o where o.project.id in :projectIds) r " +
+            "where r.position <= :limit) " +
+            "order by t.project.id, t.id")
+    List<Task> findFirstTasksOfProjects(@Param("projectIds") Collection<Long> projectIds, @Param("limit") long limit);
 
-    Page<Task> findByPriority(TaskPriority priority, Pageable pageable);
+    /** The groups of the tasks {@link #updateStatusByIds} updates. */
+    @Query(SELECT_COUNT + "where t.id in :ids and " + VISIBLE_TO_USER + GROUP_BY_COUNT)
+    List<TaskCount> countByIds(@Param("ids") Collection<Long> ids, @Param("userId") Long userId,
+                               @Param("admin") boolean admin);
 
-    Page<Task> findByStatusAndPriority(TaskStatus status, TaskPriority priority, Pageable pageable);
+    /** The groups of the tasks {@link #updateStatusByProject} updates. */
+    @Query(SELECT_COUNT + "where t.project.id = :projectId and (:currentStatus is null or t.status = :currentStatus) and " +
+            VISIBLE_TO_USER + GROUP_BY_COUNT)
+    List<TaskCount> countByProject(@Param("projectId") Long projectId, @Param("currentStatus") TaskStatus currentStatus,
+                                   @Param("userId") Long userId, @Param("admin") boolean admin);
 
-    Page<Task> findByAssignedUser(User user, Pageable pageable);
+    /** The groups of the tasks {@link #reassignOpenTasks} updates. */
+    @Query(SELECT_COUNT + "where t.assignedUser = :from and t.status <> com.example.tasktrackerapi.entity.TaskStatus.DONE" +
+            GROUP_BY_COUNT)
+    List<TaskCount> countOpenTasks(@Param("from") User from);
 
-    Page<Task> findByAssignedUserAndStatus(User user, TaskStatus status, Pageable pageable);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.status = :status, t.updateDate = :now, t.version = t.version + 1 " +
+            "where t.id in :ids and " + VISIBLE_TO_USER)
+    int updateStatusByIds(@Param("ids") Collection<Long> ids, @Param("status") TaskStatus status,
+                          @Param("now") LocalDateTime now, @Param("userId") Long userId, @Param("admin") boolean admin);
 
-    Page<Task> findByAssignedUserAndPriority(User user, TaskPriority priority, Pageable pageable);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.status = :status, t.updateDate = :now, t.version = t.version + 1 " +
+            "where t.project.id = :projectId and (:currentStatus is null or t.status = :currentStatus) and " +
+            VISIBLE_TO_USER)
+    int updateStatusByProject(@Param("projectId") Long projectId, @Param("currentStatus") TaskStatus currentStatus,
+                              @Param("status") TaskStatus status, @Param("now") LocalDateTime now,
+                              @Param("userId") Long userId, @Param("admin") boolean admin);
 
-    Page<Task> findByAssignedUserAndStatusAndPriority(User user, TaskStatus status, TaskPriority priority, Pageable pageable);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.assignedUser = :to, t.updateDate = :now, t.version = t.version + 1 " +
+            "where t.assignedUser = :from and t.status <> com.example.tasktrackerapi.entity.TaskStatus.DONE")
+    int reassignOpenTasks(@Param("from") User from, @Param("to") User to, @Param("now") LocalDateTime now);
 
 }
@@ -0,0 +1,38 @@
+package com.example.tasktrackerapi.repository;
+
+import com.example.tasktrackerapi.entity.TaskPriority;
+import com.example.tasktrackerapi.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Flat read-only view of a task, selected column by column for list endpoints.
+ * Rows are never managed by the persistence context.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskRow {
+
+    private final Long id;
+
+    private final String title;
+
+    private final String description;
+
+    private final TaskStatus status;
+
+    private final TaskPriority priority;
+
+    private final LocalDate dueDate;
+
+    private final Long projectId;
+
+    private final String assigneeEmail;
+
+    private final LocalDateTime createDate;
+
+    private final LocalDateTime updateDate;
+}
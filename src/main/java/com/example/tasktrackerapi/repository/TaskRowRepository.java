@@ -0,0 +1,31 @@
+package com.example.tasktrackerapi.repository;
+
+import com.example.tasktrackerapi.entity.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Projection queries for task listings. They select {@link TaskRow}s directly, so listing
+ * a page neither hydrates {@link Task} entities nor loads their associations.
+ */
+public interface TaskRowRepository {
+
+    Page<TaskRow> findRows(Specification<Task> spec, Pageable pageable);
+
+    /**
+     * Up to {@code limit} rows ordered by (createDate, id) that come strictly after the given
+     * keyset position, or from the start when the position is {@code null}.
+     */
+    List<TaskRow> findRowsAfter(Specification<Task> spec, LocalDateTime createDate, Long id, int limit);
+
+    /**
+     * All matching rows ordered by id, read through a forward-only cursor {@code fetchSize}
+     * rows at a time. Must be consumed, and closed, inside a transaction.
+     */
+    Stream<TaskRow> streamRows(Specification<Task> spec, int fetchSize);
+}
@@ -0,0 +1,84 @@
+package com.example.tasktrackerapi.repository;
+
+import com.example.tasktrackerapi.dtos.TaskFilterDTO;
+import com.example.tasktrackerapi.entity.Project;
+import com.example.tasktrackerapi.entity.Task;
+import com.example.tasktrackerapi.entity.TaskStatus;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    /**
+     * Tasks the given user may see: tasks of projects they own, tasks assigned to them,
+     * or every task when the user is an ADMIN. Evaluated by the database so that pages
+     * and totals only ever contain visible rows.
+     */
+    public static Specification<Task> visibleTo(Long userId, boolean admin) {
+        return (root, query, cb) -> {
+            if (admin) {
+                return cb.conjunction();
+            }
+            Join<Task, Project> project = root.join("project");
+            return cb.or(
+                    cb.equal(project.get("owner").get("id"), userId),
+                    cb.equal(root.get("assignedUser").get("id"), userId)
+            );
+        };
+    }
+
+    /**
+     * All conditions of the filter as one conjunction, or no condition for an empty filter.
+     * Equality conditions come first, in the column order of the task indexes (assignee or
+     * project, then status, then priority), followed by the range conditions; a single value
+     * is compared with {@code =} rather than {@code IN} so it can serve as an index prefix.
+     */
+    public static Specification<Task> matching(TaskFilterDTO filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getAssigneeId() != null) {
+                predicates.add(cb.equal(root.get("assignedUser").get("id"), filter.getAssigneeId()));
+            }
+            addEqualOrIn(predicates, cb, root.get("project").get("id"), filter.getProjectId());
+            addEqualOrIn(predicates, cb, root.get("status"), filter.getStatus());
+            addEqualOrIn(predicates, cb, root.get("priority"), filter.getPriority());
+            if (filter.getDueFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("dueDate"), filter.getDueFrom()));
+            }
+            if (filter.getDueTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("dueDate"), filter.getDueTo()));
+            }
+            if (filter.isOverdue()) {
+                predicates.add(cb.lessThan(root.get("dueDate"), LocalDate.now()));
+                predicates.add(cb.notEqual(root.get("status"), TaskStatus.DONE));
+            }
+            if (filter.getCreatedSince() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createDate"), filter.getCreatedSince()));
+            }
+            return predicates.isEmpty() ? null : cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    public static Specification<Task> assignedTo(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("assignedUser").get("id"), userId);
+    }
+
+    private static <T> void addEqualOrIn(List<Predicate> predicates, CriteriaBuilder cb, Path<T> path,
+                                         Collection<T> values) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        predicates.add(values.size() == 1 ? cb.equal(path, values.iterator().next()) : path.in(values));
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.tasktrackerapi.repository;
+
+import lombok.Value;
+
+/**
+ * The optimistic-lock version of a task, which every write increments (bulk updates included),
+ * together with the ids that decide who may read it.
+ */
+@Value
+public class TaskVersion {
+
+    Long version;
+
+    Long ownerId;
+
+    Long assigneeId;
+}
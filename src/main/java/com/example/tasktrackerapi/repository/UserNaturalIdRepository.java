@@ -0,0 +1,14 @@
+package com.example.tasktrackerapi.repository;
+
+import com.example.tasktrackerapi.entity.User;
+
+import java.util.Optional;
+
+/**
+ * Looks users up by email through Hibernate's natural-id API, so repeated lookups are answered
+ * from the second-level cache instead of running a query each time.
+ */
+public interface UserNaturalIdRepository {
+
+    Optional<User> findByEmail(String email);
+}
@@ -2,8 +2,10 @@ package com.example.tasktrackerapi.repository;
 
 import com.example.tasktrackerapi.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByEmail(String email);
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
+
+    List<User> findByEmailIn(Collection<String> emails);
 }
\ No newline at end of file
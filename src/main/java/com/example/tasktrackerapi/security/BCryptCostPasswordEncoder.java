@@ -0,0 +1,63 @@
+package com.example.tasktrackerapi.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt with a configured cost that also asks for hashes of any other cost to be replaced,
+ * lowered as well as raised, so changing the strength takes effect as users log in.
+ * Hashing and checking are timed as {@code tasktracker.password.hash}.
+ */
+public class BCryptCostPasswordEncoder extends BCryptPasswordEncoder implements MeterBinder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final int strength;
+
+    private Timer encodeTimer;
+
+    private Timer matchesTimer;
+
+    public BCryptCostPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer == null ? super.encode(rawPassword) : encodeTimer.record(() -> super.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return matchesTimer == null ? super.matches(rawPassword, encodedPassword)
+                : matchesTimer.record(() -> super.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        encodeTimer = timer(registry, "encode");
+        matchesTimer = timer(registry, "matches");
+    }
+
+    private static Timer timer(MeterRegistry registry, String operation) {
+        return Timer.builder("tasktracker.password.hash")
+                .description("Time spent hashing or checking a password with BCrypt")
+                .tag("operation", operation)
+                .register(registry);
+    }
+}
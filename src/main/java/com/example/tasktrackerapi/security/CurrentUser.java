@@ -0,0 +1,47 @@
+package com.example.tasktrackerapi.security;
+
+import com.example.tasktrackerapi.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * The authenticated caller of the current request. Built once by {@link JwtAuthenticationFilter}
+ * and stored as the principal of the security context, so authorization checks can read the
+ * caller's id and role without going back to the database.
+ */
+@Getter
+@AllArgsConstructor
+public class CurrentUser implements AuthenticatedPrincipal {
+
+    private final Long id;
+
+    private final String email;
+
+    private final User.Role role;
+
+    public static CurrentUser of(User user) {
+        return new CurrentUser(user.getId(), user.getEmail(), user.getRole());
+    }
+
+    public boolean isAdmin() {
+        return role == User.Role.ADMIN;
+    }
+
+    public boolean isManagerOrAdmin() {
+        return role == User.Role.MANAGER || role == User.Role.ADMIN;
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.tasktrackerapi.security;
 
+import com.example.tasktrackerapi.entity.User;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import lombok.AllArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -22,24 +24,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final UserDetailsService userDetailsServiceImpl;
 
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
         String authHeader = request.getHeader("Authorization");
-        String token = null;
-        String username = null;
+        Claims claims = null;
 
         try {
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                token = authHeader.substring(7);
-                username = jwtService.extractUserName(token);
+                claims = jwtService.parseToken(authHeader.substring(7));
             }
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsServiceImpl.loadUserByUsername(username);
-                if (jwtService.validateToken(token, userDetails)) {
+            if (claims != null && claims.getSubject() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                CurrentUser currentUser = resolveCurrentUser(claims);
+                if (currentUser != null) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
+                            currentUser, null, currentUser.getAuthorities());
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
                 }
@@ -53,4 +55,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Tokens that carry id and role claims are trusted as-is unless the user's tokens were
+     * revoked after it was issued. Older subject-only tokens still go through a user lookup.
+     */
+    private CurrentUser resolveCurrentUser(Claims claims) {
+        CurrentUser fromClaims = jwtService.toCurrentUser(claims);
+        if (fromClaims != null) {
+            boolean revoked = tokenRevocationRegistry.isRevoked(fromClaims, claims.getIssuedAt());
+            return revoked ? null : fromClaims;
+        }
+
+        UserDetails userDetails = userDetailsServiceImpl.loadUserByUsername(claims.getSubject());
+        if (jwtService.validateToken(claims, userDetails) && userDetails instanceof User user) {
+            return CurrentUser.of(user);
+        }
+        return null;
+    }
+
+}
@@ -1,71 +1,159 @@
 package com.example.tasktrackerapi.security;
 
+import com.example.tasktrackerapi.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
 
 @Service
-public class JwtUtil {
+public class JwtUtil implements MeterBinder {
+
+    public static final long EXPIRATION_MILLIS = 60 * 60 * 30 * 30;
+
+    private static final String USER_ID_CLAIM = "uid";
+
+    private static final String ROLE_CLAIM = "role";
+
+    private static final int MAX_VERIFIED_TOKENS = 10_000;
 
     private String secretkey = "h1FnJATLKth8JHPkj9V7kihBNa9U5yUBpEboABt2dUY";
 
-    public String generateToken(String username) {
+    private final SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretkey));
+
+    private final JwtParser parser = Jwts.parser().verifyWith(key).build();
+
+    /** Signature checks of tokens not in the cache; set once the meter registry is bound. */
+    private Timer verifyTimer;
+
+    /**
+     * Claims of tokens whose signature has already been verified, keyed by the SHA-256 digest
+     * of the token. Each entry expires together with its token, so an expired token is never
+     * served from here and always goes back through the parser.
+     */
+    private final Cache<String, Claims> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(MAX_VERIFIED_TOKENS)
+            .expireAfter(Expiry.<String, Claims>creating((digest, claims) -> timeToExpiry(claims)))
+            .recordStats()
+            .build();
+
+    /**
+     * Issues a token carrying the user's id and role, so the filter can authenticate
+     * requests from the token alone.
+     */
+    public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(ROLE_CLAIM, user.getRole().name());
 
+        return buildToken(user.getUsername(), claims);
+    }
+
+    /**
+     * Issues a subject-only token. The filter has to look the user up for these.
+     */
+    public String generateToken(String username) {
+        return buildToken(username, new HashMap<>());
+    }
+
+    private String buildToken(String username, Map<String, Object> claims) {
         return Jwts.builder()
                 .claims()
                 .add(claims)
                 .subject(username)
                 .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + 60 * 60 * 30 * 30))
+                .expiration(new Date(System.currentTimeMillis() + EXPIRATION_MILLIS))
                 .and()
-                .signWith(getKey())
+                .signWith(key)
                 .compact();
 
     }
 
-    private SecretKey getKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretkey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    /**
+     * Verifies the token once and returns its claims. Repeated calls with the same token are
+     * answered from the verified-token cache until the token expires.
+     *
+     * @throws io.jsonwebtoken.ExpiredJwtException if the token has expired
+     */
+    public Claims parseToken(String token) {
+        String digest = digest(token);
+        Claims claims = verifiedTokens.getIfPresent(digest);
+        if (claims == null) {
+            claims = verifyTimer == null ? verify(token) : verifyTimer.record(() -> verify(token));
+            verifiedTokens.put(digest, claims);
+        }
+        return claims;
+    }
+
+    private Claims verify(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * Builds the principal from the token claims, or returns {@code null} for tokens
+     * issued without id and role claims.
+     */
+    public CurrentUser toCurrentUser(Claims claims) {
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            return null;
+        }
+        return new CurrentUser(userId, claims.getSubject(), User.Role.valueOf(role));
     }
 
-    public String extractUserName(String token) {
-        return extractClaim(token, Claims::getSubject);
+    public boolean validateToken(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && claims.getExpiration().after(new Date());
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimResolver.apply(claims);
+    public long getCacheHitCount() {
+        return verifiedTokens.stats().hitCount();
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public long getCacheMissCount() {
+        return verifiedTokens.stats().missCount();
     }
 
-    public boolean validateToken(String token, UserDetails userDetails) {
-        final String userName = extractUserName(token);
-        return (userName.equals(userDetails.getUsername()) && !isTokenExpired(token));
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verifiedTokens, "jwtVerifiedTokens");
+        verifyTimer = Timer.builder("tasktracker.jwt.verify")
+                .description("Time to verify the signature of a token that was not cached")
+                .register(registry);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private static Duration timeToExpiry(Claims claims) {
+        long millis = claims.getExpiration().getTime() - System.currentTimeMillis();
+        return Duration.ofMillis(Math.max(millis, 0));
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 
 }
@@ -0,0 +1,76 @@
+package com.example.tasktrackerapi.security;
+
+import com.example.tasktrackerapi.config.LoginProperties;
+import com.example.tasktrackerapi.exeption.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts failed logins per account and per client address over a fixed window starting at the
+ * first failure. Once either count reaches its limit, logins are refused before the password is
+ * checked, so guessing and credential stuffing stop costing BCrypt rounds.
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private static final long MAX_TRACKED = 100_000;
+
+    private final LoginProperties properties;
+
+    private final Cache<String, AtomicInteger> failuresByAccount;
+
+    private final Cache<String, AtomicInteger> failuresByAddress;
+
+    public LoginAttemptLimiter(LoginProperties properties) {
+        this.properties = properties;
+        this.failuresByAccount = failureCounts(properties.getFailureWindow());
+        this.failuresByAddress = failureCounts(properties.getFailureWindow());
+    }
+
+    /**
+     * @throws TooManyRequestsException if the account or the address has used up its failures
+     */
+    public void checkAllowed(String username, String address) {
+        refuseIfExhausted(failuresByAccount, account(username), properties.getMaxFailuresPerAccount(),
+                "Too many failed logins for this account");
+        refuseIfExhausted(failuresByAddress, address, properties.getMaxFailuresPerAddress(),
+                "Too many failed logins from this address");
+    }
+
+    public void loginFailed(String username, String address) {
+        // Incremented in place: the entry keeps its write time, so the window is not extended.
+        failuresByAccount.get(account(username), key -> new AtomicInteger()).incrementAndGet();
+        failuresByAddress.get(address, key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    public void loginSucceeded(String username) {
+        failuresByAccount.invalidate(account(username));
+    }
+
+    private void refuseIfExhausted(Cache<String, AtomicInteger> failures, String key, int limit, String message) {
+        AtomicInteger count = failures.getIfPresent(key);
+        if (count != null && count.get() >= limit) {
+            Duration age = failures.policy().expireAfterWrite()
+                    .flatMap(expiration -> expiration.ageOf(key))
+                    .orElse(Duration.ZERO);
+            long retryAfter = Math.max(1, properties.getFailureWindow().minus(age).toSeconds());
+            throw new TooManyRequestsException(message, retryAfter);
+        }
+    }
+
+    private static Cache<String, AtomicInteger> failureCounts(Duration window) {
+        return Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    private static String account(String username) {
+        return username == null ? "" : username.strip().toLowerCase(Locale.ROOT);
+    }
+}
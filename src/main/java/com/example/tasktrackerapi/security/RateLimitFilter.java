@@ -0,0 +1,127 @@
+package com.example.tasktrackerapi.security;
+
+import com.example.tasktrackerapi.config.RateLimitProperties;
+import com.example.tasktrackerapi.dtos.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Limits requests per caller: the user of the JWT, or the client address for requests without a
+ * valid token. Runs right after {@link JwtAuthenticationFilter}, so the caller and role are
+ * already known without parsing the token again. Every response carries the RateLimit headers of
+ * the tightest bucket that applied; a refused request gets {@code 429} with {@code Retry-After}.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    static final String ANONYMOUS = "ANONYMOUS";
+
+    private final RateLimiter rateLimiter;
+
+    private final RateLimitProperties properties;
+
+    private final ObjectMapper objectMapper;
+
+    private final List<EndpointRule> endpointRules;
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.endpointRules = properties.getEndpoints().stream()
+                .map(endpoint -> new EndpointRule(PathPatternParser.defaultInstance.parse(endpoint.getPattern()), endpoint))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String key;
+        String role;
+        if (authentication != null && authentication.getPrincipal() instanceof CurrentUser currentUser) {
+            key = "user:" + currentUser.getId();
+            role = currentUser.getRole().name();
+        } else {
+            key = "ip:" + request.getRemoteAddr();
+            role = ANONYMOUS;
+        }
+
+        RateLimiter.Decision decision = null;
+        RateLimitProperties.Limit roleLimit = properties.getRoles().get(role);
+        if (roleLimit != null) {
+            decision = rateLimiter.tryConsume(key, roleLimit.getCapacity(), roleLimit.getTokensPerSecond());
+        }
+
+        if (decision == null || decision.isAllowed()) {
+            PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+            for (int i = 0; i < endpointRules.size(); i++) {
+                EndpointRule rule = endpointRules.get(i);
+                if (rule.matches(request.getMethod(), path)) {
+                    RateLimiter.Decision endpointDecision = rateLimiter.tryConsume(key + "|" + i,
+                            rule.limit().getCapacity(), rule.limit().getTokensPerSecond());
+                    if (decision == null || !endpointDecision.isAllowed()
+                            || endpointDecision.getRemaining() < decision.getRemaining()) {
+                        decision = endpointDecision;
+                    }
+                    break;
+                }
+            }
+        }
+
+        if (decision == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.getLimit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.getRemaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(decision.getResetSeconds()));
+        if (decision.isAllowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ErrorResponse errorResponse = ErrorResponse
+                .builder()
+                .message("Rate limit exceeded, retry in " + decision.getRetryAfterSeconds() + " seconds")
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .timestamp(LocalDateTime.now())
+                .build();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getWriter(), errorResponse);
+    }
+
+    private record EndpointRule(PathPattern pattern, RateLimitProperties.EndpointLimit limit) {
+
+        boolean matches(String method, PathContainer path) {
+            return (limit.getMethod() == null || limit.getMethod().isEmpty() || limit.getMethod().equalsIgnoreCase(method))
+                    && pattern.matches(path);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.tasktrackerapi.security;
+
+import com.example.tasktrackerapi.config.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Token buckets by key. A bucket is updated inside the cache's per-key compute, so concurrent
+ * requests of one caller are serialized on that key's bin only and other callers never wait.
+ * A bucket is evicted once it would have refilled completely: from then on it is no different
+ * from a new one, so dropping it loses nothing and only active callers take memory.
+ */
+@Component
+public class RateLimiter {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final Cache<String, Bucket> buckets;
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfter(Expiry.<String, Bucket>writing((key, bucket) ->
+                        Duration.ofNanos(Math.max(0, bucket.getFullAt() - System.nanoTime()))))
+                .build();
+    }
+
+    /**
+     * Takes a token from the bucket under {@code key} if one is available.
+     */
+    public Decision tryConsume(String key, int capacity, double tokensPerSecond) {
+        long now = System.nanoTime();
+        Decision[] decision = new Decision[1];
+        buckets.asMap().compute(key, (k, bucket) -> {
+            double tokens = bucket == null ? capacity
+                    : Math.min(capacity, bucket.getTokens() + (now - bucket.getRefilledAt()) * tokensPerSecond / NANOS_PER_SECOND);
+            boolean allowed = tokens >= 1;
+            if (allowed) {
+                tokens -= 1;
+            }
+            double nanosUntilFull = (capacity - tokens) / tokensPerSecond * NANOS_PER_SECOND;
+            decision[0] = new Decision(allowed, capacity, (int) Math.floor(tokens),
+                    secondsUntil(nanosUntilFull),
+                    allowed ? 0 : secondsUntil((1 - tokens) / tokensPerSecond * NANOS_PER_SECOND));
+            return new Bucket(tokens, now, now + (long) nanosUntilFull);
+        });
+        return decision[0];
+    }
+
+    private static long secondsUntil(double nanos) {
+        return (long) Math.ceil(nanos / NANOS_PER_SECOND);
+    }
+
+    @Value
+    static class Bucket {
+
+        double tokens;
+
+        long refilledAt;
+
+        long fullAt;
+    }
+
+    /**
+     * @see <a href="https://datatracker.ietf.org/doc/draft-ietf-httpapi-ratelimit-headers/">RateLimit header fields</a>
+     */
+    @Value
+    public static class Decision {
+
+        boolean allowed;
+
+        int limit;
+
+        int remaining;
+
+        /** Seconds until the bucket is full again. */
+        long resetSeconds;
+
+        /** Seconds until the next token, when not allowed. */
+        long retryAfterSeconds;
+    }
+}
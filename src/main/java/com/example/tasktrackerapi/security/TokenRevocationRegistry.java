@@ -0,0 +1,46 @@
+package com.example.tasktrackerapi.security;
+
+import com.example.tasktrackerapi.entity.User;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers, per user, the moment their id/role claims stopped being trustworthy, together
+ * with the email and role they have since. A JWT carries its issue time in whole seconds, so
+ * tokens issued in an earlier second are rejected outright, and any token whose claims differ
+ * from the recorded ones is rejected too; that covers a token minted with the old role earlier
+ * in the same second as the change, while a login right after the change stays valid. An entry
+ * is only needed for as long as a token issued before it could still be valid, so entries older
+ * than the token lifetime are dropped and the map stays bounded by recent role changes.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    private final Map<Long, Revocation> revocations = new ConcurrentHashMap<>();
+
+    public void revokeTokensOf(User user) {
+        Instant now = Instant.now();
+        revocations.put(user.getId(), new Revocation(now.truncatedTo(ChronoUnit.SECONDS), user.getEmail(), user.getRole()));
+        purgeOlderThan(now.minusMillis(JwtUtil.EXPIRATION_MILLIS));
+    }
+
+    public boolean isRevoked(CurrentUser fromClaims, Date issuedAt) {
+        Revocation revocation = revocations.get(fromClaims.getId());
+        return revocation != null && (issuedAt == null
+                || issuedAt.toInstant().isBefore(revocation.cutoff())
+                || fromClaims.getRole() != revocation.role()
+                || !revocation.email().equals(fromClaims.getEmail()));
+    }
+
+    private void purgeOlderThan(Instant threshold) {
+        revocations.values().removeIf(revocation -> revocation.cutoff().isBefore(threshold));
+    }
+
+    private record Revocation(Instant cutoff, String email, User.Role role) {
+    }
+}
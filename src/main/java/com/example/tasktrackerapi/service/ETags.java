@@ -0,0 +1,66 @@
+package com.example.tasktrackerapi.service;
+
+import com.example.tasktrackerapi.repository.ProjectVersion;
+import com.example.tasktrackerapi.repository.TaskVersion;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Strong entity tags for tasks and projects. A task tag is the id plus the task's optimistic-lock
+ * version, which every write increments. A project tag is the id plus the last update time of the
+ * project, its owner, tasks and assignees in microseconds, the precision the timestamps are stored
+ * with, and the task count, as the project representation embeds its tasks.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(Long id, Long version) {
+        return "\"" + id + "-v" + Long.toHexString(version == null ? 0 : version) + "\"";
+    }
+
+    public static String of(Long id, TaskVersion version) {
+        return of(id, version.getVersion());
+    }
+
+    public static String of(Long id, ProjectVersion version) {
+        return "\"" + id + "-" + Long.toHexString(micros(version.getLastUpdate()))
+                + "-" + Long.toHexString(version.getTaskCount()) + "\"";
+    }
+
+    private static long micros(LocalDateTime updateDate) {
+        return updateDate == null ? 0 :
+                ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), updateDate);
+    }
+
+    /**
+     * Whether an {@code If-Match} header value allows a write to an entity whose current tag is
+     * {@code etag}. A missing header always matches; weak tags never do.
+     */
+    public static boolean matches(String ifMatch, String etag) {
+        return ifMatch == null || contains(ifMatch, etag, false);
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header value names the current tag, so a read can be
+     * answered with 304. Weak tags are compared by their opaque part, as for any GET.
+     */
+    public static boolean notModified(String ifNoneMatch, String etag) {
+        return ifNoneMatch != null && contains(ifNoneMatch, etag, true);
+    }
+
+    private static boolean contains(String header, String etag, boolean weak) {
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (weak && tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.tasktrackerapi.service;
+
+import com.example.tasktrackerapi.dtos.AuthResponseDTO;
+import com.example.tasktrackerapi.dtos.UserLoginDTO;
+import com.example.tasktrackerapi.entity.User;
+import com.example.tasktrackerapi.exeption.AuthenticationFailedException;
+import com.example.tasktrackerapi.security.JwtUtil;
+import com.example.tasktrackerapi.security.LoginAttemptLimiter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Checks credentials on the login executor and issues a token. Refused attempts (too many
+ * failures, or a full executor) fail before any hashing is done.
+ */
+@Service
+public class LoginService {
+
+    private final AuthenticationManager authManager;
+    private final JwtUtil jwtUtil;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final ThreadPoolTaskExecutor loginExecutor;
+
+    public LoginService(AuthenticationManager authManager, JwtUtil jwtUtil, LoginAttemptLimiter loginAttemptLimiter,
+                        @Qualifier("loginExecutor") ThreadPoolTaskExecutor loginExecutor) {
+        this.authManager = authManager;
+        this.jwtUtil = jwtUtil;
+        this.loginAttemptLimiter = loginAttemptLimiter;
+        this.loginExecutor = loginExecutor;
+    }
+
+    /**
+     * @param address the client address the attempt is counted against
+     * @throws com.example.tasktrackerapi.exeption.TooManyRequestsException if the account or address is locked out
+     * @throws org.springframework.core.task.TaskRejectedException if the login executor is saturated
+     */
+    public CompletableFuture<AuthResponseDTO> login(UserLoginDTO userDto, String address) {
+        loginAttemptLimiter.checkAllowed(userDto.getUsername(), address);
+        return CompletableFuture.supplyAsync(() -> authenticate(userDto, address), loginExecutor);
+    }
+
+    private AuthResponseDTO authenticate(UserLoginDTO userDto, String address) {
+        Authentication authentication;
+        try {
+            // A hash of another cost than the configured one is replaced here, see UserService#updatePassword.
+            authentication = authManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(userDto.getUsername(), userDto.getPassword()));
+        } catch (AuthenticationException e) {
+            loginAttemptLimiter.loginFailed(userDto.getUsername(), address);
+            throw new AuthenticationFailedException("Invalid credentials");
+        }
+        loginAttemptLimiter.loginSucceeded(userDto.getUsername());
+        return new AuthResponseDTO(jwtUtil.generateToken((User) authentication.getPrincipal()), "Bearer");
+    }
+}
@@ -2,32 +2,87 @@ package com.example.tasktrackerapi.service;
 
 import com.example.tasktrackerapi.dtos.ProjectCreateDTO;
 import com.example.tasktrackerapi.dtos.ProjectDTO;
+import com.example.tasktrackerapi.dtos.TaskDTO;
 import com.example.tasktrackerapi.entity.Project;
 import com.example.tasktrackerapi.entity.User;
+import com.example.tasktrackerapi.exeption.BadRequestException;
+import com.example.tasktrackerapi.exeption.PreconditionFailedException;
 import com.example.tasktrackerapi.exeption.ResourceNotFoundException;
 import com.example.tasktrackerapi.mapper.ProjectMapper;
+import com.example.tasktrackerapi.mapper.TaskMapper;
 import com.example.tasktrackerapi.repository.ProjectRepository;
+import com.example.tasktrackerapi.repository.ProjectVersion;
+import com.example.tasktrackerapi.repository.TaskRepository;
 import com.example.tasktrackerapi.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
 public class ProjectService {
+
+    /** Most tasks embedded per project in a project listing. */
+    static final int MAX_TASK_LIMIT = 50;
+
     private final ProjectRepository projectRepository;
     private final ProjectMapper projectMapper;
     private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final TaskDetailCache taskDetailCache;
+
+    public Page<ProjectDTO> getAllProjects(Pageable pageable) {
+        return projectRepository.findAllWithOwner(pageable).map(projectMapper::toSummaryDto);
+    }
+
+    /**
+     * Same page as {@link #getAllProjects(Pageable)}, with up to {@code taskLimit} tasks embedded
+     * per project, at most {@link #MAX_TASK_LIMIT}. The tasks of the whole page are loaded with
+     * one extra query.
+     */
+    public Page<ProjectDTO> getAllProjectsWithTasks(Pageable pageable, int taskLimit) {
+        if (taskLimit < 1) {
+            throw new BadRequestException("taskLimit must be at least 1");
+        }
+        if (taskLimit > MAX_TASK_LIMIT) {
+            throw new BadRequestException("taskLimit must be at most " + MAX_TASK_LIMIT);
+        }
+        Page<Project> projects = projectRepository.findAllWithOwner(pageable);
+        List<Long> projectIds = projects.map(Project::getId).getContent();
+
+        Map<Long, List<TaskDTO>> tasksByProject = projectIds.isEmpty() ? Map.of() :
+                taskRepository.findFirstTasksOfProjects(projectIds, taskLimit).stream()
+                        .collect(Collectors.groupingBy(task -> task.getProject().getId(),
+                                Collectors.mapping(taskMapper::toDto, Collectors.toList())));
 
-    public List<ProjectDTO> getAllProjects() {
-        return projectMapper.toDtos(projectRepository.findAll());
+        return projects.map(project -> {
+            ProjectDTO dto = projectMapper.toSummaryDto(project);
+            dto.setTasks(tasksByProject.getOrDefault(project.getId(), new ArrayList<>()));
+            return dto;
+        });
+    }
+
+    /**
+     * The tag of the project's detail representation, for answering conditional requests
+     * without loading its owner and tasks. It changes whenever the project, its owner, one of
+     * its tasks or their assignees change, or a task is added or removed.
+     */
+    public String getProjectETag(Long id) {
+        return projectRepository.findVersionById(id)
+                .map(version -> ETags.of(id, version))
+                .orElseThrow(()-> new ResourceNotFoundException("Project not found"));
     }
 
     public ProjectDTO getProjectById(Long id) {
-        Project project = projectRepository.findById(id)
+        Project project = projectRepository.findDetailedById(id)
                 .orElseThrow(()-> new ResourceNotFoundException("Project not found"));
         return projectMapper.toDto(project);
     }
@@ -47,17 +102,28 @@ public class ProjectService {
     }
 
 
-    public ProjectDTO updateProject(Long id, ProjectCreateDTO projectDTO) {
-        Project project = projectRepository.findById(id)
+    /**
+     * @param ifMatch the request's {@code If-Match} header, or {@code null} to update unconditionally
+     */
+    public ProjectDTO updateProject(Long id, ProjectCreateDTO projectDTO, String ifMatch) {
+        Project project = projectRepository.findDetailedById(id)
                 .orElseThrow(()->  new ResourceNotFoundException("Project not found"));
+        if (!ETags.matches(ifMatch, ETags.of(project.getId(), ProjectVersion.of(project)))) {
+            throw new PreconditionFailedException("Project has been modified since it was read");
+        }
         User owner = userRepository.findById(projectDTO.getOwnerId())
                 .orElseThrow(()->  new ResourceNotFoundException("Owner not found"));
 
+        boolean ownerChanged = project.getOwner() == null || !project.getOwner().getId().equals(owner.getId());
         projectMapper.updateEntity(projectDTO, project);
 
         project.setOwner(owner);
 
         Project saved = projectRepository.save(project);
+        if (ownerChanged) {
+            // Cached tasks carry the project owner for their access check.
+            taskDetailCache.evictAll();
+        }
         return projectMapper.toDto(saved);
     }
 
@@ -65,5 +131,6 @@ public class ProjectService {
         Project project = projectRepository.findById(id)
                 .orElseThrow(()-> new ResourceNotFoundException("Project not found"));
         projectRepository.delete(project);
+        taskDetailCache.evictAll();
     }
 }
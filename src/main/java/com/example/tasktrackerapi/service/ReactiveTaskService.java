@@ -0,0 +1,71 @@
+package com.example.tasktrackerapi.service;
+
+import com.example.tasktrackerapi.dtos.CursorPageDTO;
+import com.example.tasktrackerapi.dtos.TaskDTO;
+import com.example.tasktrackerapi.dtos.TaskFilterDTO;
+import com.example.tasktrackerapi.exeption.AuthorizationFailedException;
+import com.example.tasktrackerapi.exeption.ResourceNotFoundException;
+import com.example.tasktrackerapi.mapper.TaskMapper;
+import com.example.tasktrackerapi.repository.ReactiveTaskRepository;
+import com.example.tasktrackerapi.security.CurrentUser;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * The task reads of {@link TaskService} for the reactive API, with the same visibility rules,
+ * filters and cursors. The caller is resolved when a method is called, on the request thread;
+ * the returned publishers never touch the security context.
+ */
+@Service
+@AllArgsConstructor
+public class ReactiveTaskService {
+
+    private final ReactiveTaskRepository reactiveTaskRepository;
+    private final TaskMapper taskMapper;
+    private final UserService userService;
+
+    public Mono<TaskDTO> getTaskById(Long id) {
+        CurrentUser currentUser = userService.getCurrentUser();
+        return reactiveTaskRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Task not found with id " + id)))
+                .flatMap(task -> TaskService.projectOrTaskOwnerAccess(task.getOwnerId(), task.getAssigneeId(), currentUser)
+                        ? Mono.just(taskMapper.toDto(task.getRow()))
+                        : Mono.error(new AuthorizationFailedException("Not allowed to access this task")));
+    }
+
+    public Mono<String> getTaskETag(Long id) {
+        CurrentUser currentUser = userService.getCurrentUser();
+        return reactiveTaskRepository.findVersionById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Task not found with id " + id)))
+                .flatMap(version -> TaskService.projectOrTaskOwnerAccess(version.getOwnerId(), version.getAssigneeId(), currentUser)
+                        ? Mono.just(ETags.of(id, version))
+                        : Mono.error(new AuthorizationFailedException("Not allowed to access this task")));
+    }
+
+    public Mono<CursorPageDTO<TaskDTO>> getTasksAfter(String after, int size, TaskFilterDTO filter) {
+        return scroll(userService.getCurrentUser(), null, after, TaskCursor.validatedSize(size), filter);
+    }
+
+    public Mono<CursorPageDTO<TaskDTO>> getTasksByAssignedUserAfter(Long userId, String after, int size, TaskFilterDTO filter) {
+        CurrentUser currentUser = userService.getCurrentUser();
+        int limit = TaskCursor.validatedSize(size);
+        return reactiveTaskRepository.userExists(userId)
+                .flatMap(exists -> exists
+                        ? scroll(currentUser, userId, after, limit, filter)
+                        : Mono.error(new ResourceNotFoundException("User not found: " + userId)));
+    }
+
+    /**
+     * @param limit a size already checked with {@link TaskCursor#validatedSize}
+     */
+    private Mono<CursorPageDTO<TaskDTO>> scroll(CurrentUser currentUser, Long assignedTo, String after, int limit,
+                                                TaskFilterDTO filter) {
+        TaskFilterDTO validated = TaskService.validatedUnsorted(filter);
+        TaskCursor cursor = TaskCursor.decode(after);
+        return reactiveTaskRepository.findRowsAfter(currentUser.getId(), currentUser.isAdmin(), assignedTo, validated,
+                        cursor.getCreateDate(), cursor.getId(), limit + 1)
+                .collectList()
+                .map(rows -> TaskCursor.slice(rows, limit, taskMapper::toDto));
+    }
+}
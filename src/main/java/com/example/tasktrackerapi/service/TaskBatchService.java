@@ -0,0 +1,170 @@
+package com.example.tasktrackerapi.service;
+
+import com.example.tasktrackerapi.dtos.TaskBatchItemResultDTO;
+import com.example.tasktrackerapi.dtos.TaskBatchResultDTO;
+import com.example.tasktrackerapi.dtos.TaskCreateDTO;
+import com.example.tasktrackerapi.entity.Project;
+import com.example.tasktrackerapi.entity.Task;
+import com.example.tasktrackerapi.entity.User;
+import com.example.tasktrackerapi.exeption.BadRequestException;
+import com.example.tasktrackerapi.mapper.TaskMapper;
+import com.example.tasktrackerapi.repository.ProjectRepository;
+import com.example.tasktrackerapi.repository.TaskRepository;
+import com.example.tasktrackerapi.repository.UserRepository;
+import com.example.tasktrackerapi.security.CurrentUser;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates many tasks in one transaction. Projects and assignees are resolved with one query
+ * each, project access is checked once per project, and items that fail validation or
+ * authorization are reported back instead of failing the whole batch.
+ */
+@Service
+@AllArgsConstructor
+public class TaskBatchService {
+
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    // Entities are flushed and detached this often so the persistence context stays small.
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TaskCounterService taskCounterService;
+
+    @Transactional
+    public TaskBatchResultDTO createTasks(List<TaskCreateDTO> taskDTOs) {
+        if (taskDTOs == null || taskDTOs.isEmpty()) {
+            throw new BadRequestException("Batch must contain at least one task");
+        }
+        if (taskDTOs.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Batch cannot contain more than " + MAX_BATCH_SIZE + " tasks");
+        }
+
+        CurrentUser currentUser = userService.getCurrentUser();
+        Map<Long, Project> projects = projectRepository.findAllById(taskDTOs.stream()
+                        .filter(Objects::nonNull)
+                        .map(TaskCreateDTO::getProjectId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        Map<String, User> assignees = userRepository.findByEmailIn(taskDTOs.stream()
+                        .filter(Objects::nonNull)
+                        .map(this::assigneeEmail)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(User::getEmail, Function.identity()));
+        Map<Long, Boolean> projectAccess = new HashMap<>();
+
+        List<TaskBatchItemResultDTO> results = new ArrayList<>(taskDTOs.size());
+        List<Task> pending = new ArrayList<>();
+        List<Integer> pendingIndexes = new ArrayList<>();
+
+        for (int i = 0; i < taskDTOs.size(); i++) {
+            TaskCreateDTO taskDTO = taskDTOs.get(i);
+            String error = validate(taskDTO);
+            if (error != null) {
+                results.add(TaskBatchItemResultDTO.failed(i, error));
+                continue;
+            }
+
+            Project project = projects.get(taskDTO.getProjectId());
+            if (project == null) {
+                results.add(TaskBatchItemResultDTO.failed(i, "Project not found with id " + taskDTO.getProjectId()));
+                continue;
+            }
+
+            String email = assigneeEmail(taskDTO);
+            User assignee = email == null ? null : assignees.get(email);
+            if (email != null && assignee == null) {
+                results.add(TaskBatchItemResultDTO.failed(i, "User not found: " + email));
+                continue;
+            }
+
+            boolean canAccessProject = projectAccess.computeIfAbsent(project.getId(),
+                    id -> ownerOrAdmin(project, currentUser));
+            if (!canAccessProject && (assignee == null || !currentUser.getId().equals(assignee.getId()))) {
+                results.add(TaskBatchItemResultDTO.failed(i, "Not allowed to access this task"));
+                continue;
+            }
+
+            Task task = taskMapper.toEntity(taskDTO);
+            task.setProject(project);
+            task.setAssignedUser(assignee);
+            pending.add(task);
+            pendingIndexes.add(i);
+
+            if (pending.size() == FLUSH_INTERVAL) {
+                persist(pending, pendingIndexes, results);
+            }
+        }
+        persist(pending, pendingIndexes, results);
+
+        results.sort(Comparator.comparingInt(TaskBatchItemResultDTO::getIndex));
+        int created = (int) results.stream().filter(TaskBatchItemResultDTO::isCreated).count();
+        return new TaskBatchResultDTO(created, results.size() - created, results);
+    }
+
+    private void persist(List<Task> pending, List<Integer> pendingIndexes, List<TaskBatchItemResultDTO> results) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Task> saved = taskRepository.saveAll(pending);
+        entityManager.flush();
+        taskCounterService.tasksCreated(saved);
+        for (int i = 0; i < saved.size(); i++) {
+            results.add(TaskBatchItemResultDTO.created(pendingIndexes.get(i), taskMapper.toDto(saved.get(i))));
+        }
+        entityManager.clear();
+        pending.clear();
+        pendingIndexes.clear();
+    }
+
+    private String validate(TaskCreateDTO taskDTO) {
+        if (taskDTO == null) {
+            return "Task is required";
+        }
+        Set<ConstraintViolation<TaskCreateDTO>> violations = validator.validate(taskDTO);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (taskDTO.getProjectId() == null) {
+            return "projectId: Project is required";
+        }
+        return null;
+    }
+
+    private String assigneeEmail(TaskCreateDTO taskDTO) {
+        return taskDTO.getAssignedUser() == null ? null : taskDTO.getAssignedUser().getEmail();
+    }
+
+    private boolean ownerOrAdmin(Project project, CurrentUser currentUser) {
+        return currentUser.isAdmin() ||
+                (project.getOwner() != null && currentUser.getId().equals(project.getOwner().getId()));
+    }
+}
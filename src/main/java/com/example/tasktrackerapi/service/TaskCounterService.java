@@ -0,0 +1,195 @@
+package com.example.tasktrackerapi.service;
+
+import com.example.tasktrackerapi.dtos.TaskStatsDTO;
+import com.example.tasktrackerapi.entity.Project;
+import com.example.tasktrackerapi.entity.Task;
+import com.example.tasktrackerapi.entity.TaskPriority;
+import com.example.tasktrackerapi.entity.TaskStatus;
+import com.example.tasktrackerapi.exeption.AuthorizationFailedException;
+import com.example.tasktrackerapi.exeption.ResourceNotFoundException;
+import com.example.tasktrackerapi.repository.ProjectRepository;
+import com.example.tasktrackerapi.repository.TaskCount;
+import com.example.tasktrackerapi.repository.TaskCounterRepository;
+import com.example.tasktrackerapi.repository.UserRepository;
+import com.example.tasktrackerapi.security.CurrentUser;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Task counts per project, assignee, status and priority, kept up to date by every write in
+ * {@link TaskService} and {@link TaskBatchService} so statistics are read without scanning tasks.
+ * <p>
+ * Writers append deltas in their own transaction; {@link #mergeDeltas()} periodically folds them
+ * into the counters and {@link #reconcile()} compares the counters with the tasks table, which
+ * also picks up tasks written outside these services.
+ */
+@Slf4j
+@Service
+@AllArgsConstructor
+public class TaskCounterService {
+
+    static final int MERGE_BATCH_SIZE = 10_000;
+
+    static final String DRIFT_METRIC = "tasktracker.task.counters.drift";
+
+    private final TaskCounterRepository taskCounterRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final MeterRegistry meterRegistry;
+    private final EntityManager entityManager;
+
+    public void taskCreated(Task task) {
+        record(List.of(TaskCount.of(task)));
+    }
+
+    public void tasksCreated(Collection<Task> tasks) {
+        record(tasks.stream()
+                .collect(Collectors.groupingBy(task -> TaskCount.of(task).withCount(0), Collectors.counting()))
+                .entrySet().stream()
+                .map(group -> group.getKey().withCount(group.getValue()))
+                .toList());
+    }
+
+    /**
+     * @param before {@link TaskCount#of(Task)} taken when the task was loaded, before it was changed
+     */
+    public void taskChanged(TaskCount before, Task task) {
+        TaskCount after = TaskCount.of(task);
+        if (!after.equals(before)) {
+            record(List.of(before.withCount(-1), after));
+        }
+    }
+
+    public void taskDeleted(Task task) {
+        record(List.of(TaskCount.of(task).withCount(-1)));
+    }
+
+    /**
+     * For set-based updates: moves each group, counted before the update, to the group its
+     * tasks are in afterwards.
+     */
+    public void tasksMoved(Collection<TaskCount> groups, UnaryOperator<TaskCount> change) {
+        List<TaskCount> deltas = new ArrayList<>();
+        for (TaskCount group : groups) {
+            TaskCount moved = change.apply(group);
+            if (!moved.equals(group)) {
+                deltas.add(group.withCount(-group.getCount()));
+                deltas.add(moved);
+            }
+        }
+        record(deltas);
+    }
+
+    /**
+     * Counts for one project and/or one assignee, or for everything when both are {@code null}.
+     * Project owners may read their projects, users their own tasks, ADMIN everything.
+     */
+    public TaskStatsDTO getStats(Long projectId, Long assigneeId) {
+        CurrentUser currentUser = userService.getCurrentUser();
+        Long ownerId = null;
+        if (projectId != null) {
+            Project project = projectRepository.findById(projectId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Project not found with id " + projectId));
+            ownerId = project.getOwner() == null ? null : project.getOwner().getId();
+        }
+        if (assigneeId != null && !userRepository.existsById(assigneeId)) {
+            throw new ResourceNotFoundException("User not found: " + assigneeId);
+        }
+        boolean allowed = currentUser.isAdmin() ||
+                (projectId != null && currentUser.getId().equals(ownerId)) ||
+                (assigneeId != null && currentUser.getId().equals(assigneeId));
+        if (!allowed) {
+            throw new AuthorizationFailedException("Not allowed to read these statistics");
+        }
+
+        TaskStatsDTO stats = new TaskStatsDTO();
+        stats.setProjectId(projectId);
+        stats.setAssigneeId(assigneeId);
+        for (TaskStatus status : TaskStatus.values()) {
+            stats.getByStatus().put(status, 0L);
+            EnumMap<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+            for (TaskPriority priority : TaskPriority.values()) {
+                byPriority.put(priority, 0L);
+            }
+            stats.getByStatusAndPriority().put(status, byPriority);
+        }
+        for (TaskPriority priority : TaskPriority.values()) {
+            stats.getByPriority().put(priority, 0L);
+        }
+        for (TaskCount count : taskCounterRepository.sumByStatusAndPriority(projectId, assigneeId)) {
+            stats.setTotal(stats.getTotal() + count.getCount());
+            stats.getByStatus().merge(count.getStatus(), count.getCount(), Long::sum);
+            stats.getByPriority().merge(count.getPriority(), count.getCount(), Long::sum);
+            stats.getByStatusAndPriority().get(count.getStatus()).merge(count.getPriority(), count.getCount(), Long::sum);
+        }
+        return stats;
+    }
+
+    /**
+     * Folds pending deltas into the counters, oldest first and at most {@link #MERGE_BATCH_SIZE}
+     * per run. Reads already include pending deltas, so this only keeps the delta table small.
+     *
+     * @return the number of counter groups changed
+     */
+    @Scheduled(fixedDelayString = "${tasktracker.task-counters.merge-interval}",
+            initialDelayString = "${tasktracker.task-counters.merge-interval}")
+    @Transactional
+    public int mergeDeltas() {
+        List<TaskCount> deltas = taskCounterRepository.takeDeltas(MERGE_BATCH_SIZE);
+        if (!deltas.isEmpty()) {
+            taskCounterRepository.addToCounters(deltas);
+        }
+        return deltas.size();
+    }
+
+    /**
+     * Recounts the tasks table, logs and counts every group whose recorded count drifted, and
+     * records a correcting delta for it.
+     *
+     * @return the drifted groups, each with the correction applied as its count
+     */
+    @Scheduled(fixedDelayString = "${tasktracker.task-counters.reconcile-interval}",
+            initialDelayString = "${tasktracker.task-counters.reconcile-interval}")
+    @Transactional
+    public List<TaskCount> reconcile() {
+        List<TaskCount> drift = taskCounterRepository.findDrift();
+        if (drift.isEmpty()) {
+            log.info("Task counters reconciled, no drift");
+            return drift;
+        }
+
+        long driftedTasks = drift.stream().mapToLong(count -> Math.abs(count.getCount())).sum();
+        log.warn("Task counters drifted in {} groups by {} tasks in total; correcting", drift.size(), driftedTasks);
+        drift.forEach(count -> log.debug("Task counter drift: {}", count));
+        meterRegistry.counter(DRIFT_METRIC).increment(driftedTasks);
+
+        taskCounterRepository.insertDeltas(drift);
+        return drift;
+    }
+
+    private void record(List<TaskCount> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // Deltas are written through JDBC, which does not flush the persistence context; a
+        // project created earlier in the transaction must be in the table for the foreign key.
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.flush();
+        }
+        taskCounterRepository.insertDeltas(deltas);
+    }
+}
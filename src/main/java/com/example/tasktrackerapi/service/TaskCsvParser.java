@@ -0,0 +1,124 @@
+package com.example.tasktrackerapi.service;
+
+import com.example.tasktrackerapi.dtos.TaskCreateDTO;
+import com.example.tasktrackerapi.dtos.UserResponseDTO;
+import com.example.tasktrackerapi.entity.TaskPriority;
+import com.example.tasktrackerapi.entity.TaskStatus;
+import com.example.tasktrackerapi.exeption.BadRequestException;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Turns CSV lines into {@link TaskCreateDTO}s using the column order given by the header line.
+ * Fields may be quoted to contain commas; a doubled quote inside a quoted field is a literal
+ * quote. Records cannot span lines.
+ */
+final class TaskCsvParser {
+
+    private static final List<String> COLUMNS =
+            List.of("title", "description", "status", "priority", "duedate", "projectid", "assigneeemail");
+
+    private final List<String> header;
+
+    TaskCsvParser(String headerLine) {
+        if (headerLine == null || headerLine.isBlank()) {
+            throw new BadRequestException("CSV header line is missing");
+        }
+        header = new ArrayList<>();
+        for (String column : split(headerLine)) {
+            String name = column.trim().toLowerCase(Locale.ROOT);
+            if (!COLUMNS.contains(name)) {
+                throw new BadRequestException("Unknown CSV column: " + column.trim());
+            }
+            header.add(name);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the line does not match the header or a value cannot be parsed
+     */
+    TaskCreateDTO parse(String line) {
+        List<String> fields = split(line);
+        if (fields.size() != header.size()) {
+            throw new IllegalArgumentException("Expected " + header.size() + " fields but found " + fields.size());
+        }
+
+        TaskCreateDTO.TaskCreateDTOBuilder builder = TaskCreateDTO.builder();
+        for (int i = 0; i < fields.size(); i++) {
+            String value = fields.get(i).isEmpty() ? null : fields.get(i);
+            if (value == null) {
+                continue;
+            }
+            switch (header.get(i)) {
+                case "title" -> builder.title(value);
+                case "description" -> builder.description(value);
+                case "status" -> builder.status(parseEnum(TaskStatus.class, "status", value));
+                case "priority" -> builder.priority(parseEnum(TaskPriority.class, "priority", value));
+                case "duedate" -> builder.dueDate(parseDate(value));
+                case "projectid" -> builder.projectId(parseId(value));
+                case "assigneeemail" -> builder.assignedUser(new UserResponseDTO(value));
+                default -> throw new IllegalStateException("Unhandled column " + header.get(i));
+            }
+        }
+        return builder.build();
+    }
+
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String column, String value) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid dueDate: " + value);
+        }
+    }
+
+    private static Long parseId(String value) {
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid projectId: " + value);
+        }
+    }
+}
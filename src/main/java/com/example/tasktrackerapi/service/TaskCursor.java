@@ -0,0 +1,77 @@
+package com.example.tasktrackerapi.service;
+
+import com.example.tasktrackerapi.dtos.CursorPageDTO;
+import com.example.tasktrackerapi.exeption.BadRequestException;
+import com.example.tasktrackerapi.repository.TaskRow;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Opaque cursor for keyset pagination over tasks. Tasks are ordered by creation time with the
+ * id as tie-breaker, and the cursor encodes that pair for the last task of a slice, so the
+ * next slice starts right after it no matter how many rows were inserted in the meantime.
+ */
+@Getter
+@AllArgsConstructor
+final class TaskCursor {
+
+    /** Largest slice served; larger requested sizes are reduced to it. */
+    static final int MAX_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    private static final TaskCursor START = new TaskCursor(null, null);
+
+    private final LocalDateTime createDate;
+
+    private final Long id;
+
+    static TaskCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            return new TaskCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.valueOf(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    /**
+     * The slice size to serve for a requested {@code size}, capped at {@link #MAX_SIZE}.
+     *
+     * @throws BadRequestException if {@code size} is less than 1
+     */
+    static int validatedSize(int size) {
+        if (size < 1) {
+            throw new BadRequestException("size must be at least 1");
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * The slice for rows fetched with a limit of {@code size + 1}: the extra row only tells
+     * whether there is a next slice, which then starts after the last row returned.
+     */
+    static <T> CursorPageDTO<T> slice(List<TaskRow> rows, int size, Function<TaskRow, T> toDto) {
+        boolean hasNext = rows.size() > size;
+        List<TaskRow> slice = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? encode(slice.get(slice.size() - 1)) : null;
+        return new CursorPageDTO<>(slice.stream().map(toDto).toList(), nextCursor, hasNext);
+    }
+
+    static String encode(TaskRow last) {
+        String raw = last.getCreateDate() + SEPARATOR + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
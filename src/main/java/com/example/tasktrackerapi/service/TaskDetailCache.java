@@ -0,0 +1,125 @@
+package com.example.tasktrackerapi.service;
+
+import com.example.tasktrackerapi.dtos.TaskDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Mapped tasks served by {@code GET /api/tasks/{id}}, kept together with the project owner and
+ * assignee ids so each caller is still authorized without touching the database.
+ * <p>
+ * Evictions run when the writing transaction completes. Loads are atomic per id, so a read that
+ * started before the commit finishes before {@link #evict} removes what it loaded. Clearing the
+ * whole cache does not wait for loads in flight, so {@link #evictAll} also starts a new
+ * generation, and entries loaded in an earlier one are discarded instead of served.
+ */
+@Component
+public class TaskDetailCache implements MeterBinder {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    // Only a safety net; every write path evicts explicitly.
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Cache<Long, Loaded> entries = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(TIME_TO_LIVE)
+            .recordStats()
+            .build();
+
+    @Value
+    public static class Entry {
+        TaskDTO task;
+        Long version;
+        Long ownerId;
+        Long assigneeId;
+    }
+
+    private record Loaded(long generation, Entry entry) {
+    }
+
+    /**
+     * Returns the cached entry for the task, loading it on a miss. A {@code null} from the loader
+     * (task not found) is returned as is and not cached. Inside a transaction the cache is
+     * bypassed, since that transaction may already have changed the task.
+     */
+    public Entry get(Long id, Function<Long, Entry> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.apply(id);
+        }
+        Loaded loaded = entries.get(id, key -> load(key, loader));
+        if (loaded == null) {
+            return null;
+        }
+        if (loaded.generation() != generation.get()) {
+            // read before an evictAll and stored after it had cleared the cache
+            entries.asMap().remove(id, loaded);
+            return loader.apply(id);
+        }
+        return loaded.entry();
+    }
+
+    /**
+     * The cached entry for the task, or {@code null} when it is not cached (or may be stale, see
+     * {@link #get}). Never loads.
+     */
+    public Entry getIfPresent(Long id) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+        Loaded loaded = entries.getIfPresent(id);
+        return loaded == null || loaded.generation() != generation.get() ? null : loaded.entry();
+    }
+
+    private Loaded load(Long id, Function<Long, Entry> loader) {
+        long started = generation.get();
+        Entry entry = loader.apply(id);
+        return entry == null ? null : new Loaded(started, entry);
+    }
+
+    public void evict(Long id) {
+        afterCompletion(() -> entries.invalidate(id));
+    }
+
+    /**
+     * For writes that touch tasks without knowing their ids, e.g. set-based updates or changes
+     * to a project.
+     */
+    public void evictAll() {
+        afterCompletion(() -> {
+            generation.incrementAndGet();
+            entries.invalidateAll();
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, entries, "taskDetails");
+    }
+
+    private static void afterCompletion(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                eviction.run();
+            }
+        });
+    }
+}
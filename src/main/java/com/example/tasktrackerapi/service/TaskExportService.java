@@ -0,0 +1,61 @@
+package com.example.tasktrackerapi.service;
+
+import com.example.tasktrackerapi.dtos.TaskFilterDTO;
+import com.example.tasktrackerapi.entity.Task;
+import com.example.tasktrackerapi.mapper.TaskMapper;
+import com.example.tasktrackerapi.repository.TaskRepository;
+import com.example.tasktrackerapi.repository.TaskRow;
+import com.example.tasktrackerapi.repository.TaskSpecifications;
+import com.example.tasktrackerapi.security.CurrentUser;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.AllArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the tasks visible to the current user as newline-delimited JSON. Rows are read
+ * through a database cursor as flat projections, so they never enter the persistence
+ * context and memory use does not grow with the size of the export.
+ */
+@Service
+@AllArgsConstructor
+public class TaskExportService {
+
+    static final int FETCH_SIZE = 500;
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long exportTasks(TaskFilterDTO filter, OutputStream out) throws IOException {
+        CurrentUser currentUser = userService.getCurrentUser();
+        Specification<Task> spec = TaskSpecifications.visibleTo(currentUser.getId(), currentUser.isAdmin())
+                .and(TaskSpecifications.matching(TaskService.validatedUnsorted(filter)));
+
+        // Let the generator's buffer decide when to write instead of flushing after every task.
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long written = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+             Stream<TaskRow> rows = taskRepository.streamRows(spec, FETCH_SIZE)) {
+            Iterator<TaskRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, taskMapper.toDto(iterator.next()));
+                generator.writeRaw('\n');
+                written++;
+            }
+        }
+        return written;
+    }
+}
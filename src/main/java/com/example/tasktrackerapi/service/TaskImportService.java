@@ -0,0 +1,127 @@
+package com.example.tasktrackerapi.service;
+
+import com.example.tasktrackerapi.dtos.TaskBatchItemResultDTO;
+import com.example.tasktrackerapi.dtos.TaskBatchResultDTO;
+import com.example.tasktrackerapi.dtos.TaskCreateDTO;
+import com.example.tasktrackerapi.dtos.TaskImportErrorDTO;
+import com.example.tasktrackerapi.dtos.TaskImportProgressDTO;
+import com.example.tasktrackerapi.dtos.TaskImportResultDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Imports tasks from an NDJSON or CSV upload while it is being read. Parsed records are handed
+ * to {@link TaskBatchService} in fixed-size chunks, each in its own transaction, so a failure
+ * late in a large file does not roll back the chunks already written. Callers can pass a
+ * listener to receive the running totals after every chunk.
+ */
+@Slf4j
+@Service
+@AllArgsConstructor
+public class TaskImportService {
+
+    static final int CHUNK_SIZE = 500;
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    private final TaskBatchService taskBatchService;
+    private final ObjectMapper objectMapper;
+
+    public TaskImportResultDTO importTasks(InputStream in, Format format) throws IOException {
+        return importTasks(in, format, progress -> { });
+    }
+
+    public TaskImportResultDTO importTasks(InputStream in, Format format, Consumer<TaskImportProgressDTO> progressListener)
+            throws IOException {
+        TaskImportResultDTO result = new TaskImportResultDTO();
+        List<TaskCreateDTO> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<Long> chunkLines = new ArrayList<>(CHUNK_SIZE);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        long lineNumber = 0;
+        TaskCsvParser csvParser = null;
+        if (format == Format.CSV) {
+            csvParser = new TaskCsvParser(reader.readLine());
+            lineNumber++;
+        }
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            result.setProcessedCount(result.getProcessedCount() + 1);
+            try {
+                TaskCreateDTO task = csvParser != null ? csvParser.parse(line) : objectMapper.readValue(line, TaskCreateDTO.class);
+                // a literal "null" line parses to no task at all
+                if (task == null) {
+                    addError(result, lineNumber, "Task is required");
+                } else {
+                    chunk.add(task);
+                    chunkLines.add(lineNumber);
+                }
+            } catch (JsonProcessingException e) {
+                addError(result, lineNumber, e.getOriginalMessage());
+            } catch (IllegalArgumentException e) {
+                addError(result, lineNumber, e.getMessage());
+            }
+
+            if (chunk.size() == CHUNK_SIZE) {
+                writeChunk(chunk, chunkLines, result, progressListener);
+            }
+        }
+        writeChunk(chunk, chunkLines, result, progressListener);
+
+        result.getErrors().sort(Comparator.comparingLong(TaskImportErrorDTO::getLine));
+        return result;
+    }
+
+    private void writeChunk(List<TaskCreateDTO> chunk, List<Long> chunkLines, TaskImportResultDTO result,
+                            Consumer<TaskImportProgressDTO> progressListener) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        TaskBatchResultDTO batch = taskBatchService.createTasks(List.copyOf(chunk));
+        result.setCreatedCount(result.getCreatedCount() + batch.getCreatedCount());
+        for (TaskBatchItemResultDTO item : batch.getItems()) {
+            if (!item.isCreated()) {
+                addError(result, chunkLines.get(item.getIndex()), item.getError());
+            }
+        }
+        chunk.clear();
+        chunkLines.clear();
+
+        log.info("Task import progress: {} records processed, {} created, {} failed",
+                result.getProcessedCount(), result.getCreatedCount(), result.getFailedCount());
+        progressListener.accept(new TaskImportProgressDTO(
+                result.getProcessedCount(), result.getCreatedCount(), result.getFailedCount()));
+    }
+
+    private static void addError(TaskImportResultDTO result, long line, String message) {
+        result.setFailedCount(result.getFailedCount() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new TaskImportErrorDTO(line, message));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+}
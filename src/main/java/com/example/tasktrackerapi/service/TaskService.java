@@ -1,60 +1,107 @@
 package com.example.tasktrackerapi.service;
 
+import com.example.tasktrackerapi.dtos.BulkReassignDTO;
+import com.example.tasktrackerapi.dtos.BulkStatusUpdateDTO;
+import com.example.tasktrackerapi.dtos.BulkUpdateResultDTO;
+import com.example.tasktrackerapi.dtos.CursorPageDTO;
 import com.example.tasktrackerapi.dtos.TaskCreateDTO;
 import com.example.tasktrackerapi.dtos.TaskDTO;
+import com.example.tasktrackerapi.dtos.TaskFilterDTO;
 import com.example.tasktrackerapi.dtos.UpdateTaskStatusDTO;
 import com.example.tasktrackerapi.entity.*;
 import com.example.tasktrackerapi.exeption.AuthorizationFailedException;
+import com.example.tasktrackerapi.exeption.BadRequestException;
+import com.example.tasktrackerapi.exeption.PreconditionFailedException;
 import com.example.tasktrackerapi.exeption.ResourceNotFoundException;
 import com.example.tasktrackerapi.mapper.TaskMapper;
 import com.example.tasktrackerapi.repository.ProjectRepository;
+import com.example.tasktrackerapi.repository.TaskCount;
 import com.example.tasktrackerapi.repository.TaskRepository;
+import com.example.tasktrackerapi.repository.TaskRow;
+import com.example.tasktrackerapi.repository.TaskSpecifications;
+import com.example.tasktrackerapi.repository.TaskVersion;
 import com.example.tasktrackerapi.repository.UserRepository;
+import com.example.tasktrackerapi.security.CurrentUser;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
+/**
+ * Every public operation is timed as {@code tasktracker.task.service}, tagged with the method name.
+ */
 @Service
 @AllArgsConstructor
+@Timed(TaskService.METRIC)
 public class TaskService {
 
+    static final String METRIC = "tasktracker.task.service";
+
+    /** Properties the listings can be sorted by; ties are always broken by id. */
+    static final Set<String> SORTABLE = Set.of("id", "title", "status", "priority", "dueDate", "createDate", "updateDate");
+
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final UserService userService;
+    private final TaskDetailCache taskDetailCache;
+    private final TaskCounterService taskCounterService;
 
-    public Page<TaskDTO> getTasks(Pageable pageable, TaskStatus status, TaskPriority priority) {
-        Page<Task> tasks;
+    public Page<TaskDTO> getTasks(TaskFilterDTO filter, Pageable pageable) {
+        Specification<Task> spec = visibleToCurrentUser()
+                .and(TaskSpecifications.matching(validated(filter)));
 
-        if (status != null && priority != null) {
-            tasks = taskRepository.findByStatusAndPriority(status, priority, pageable);
-        } else if (status != null) {
-            tasks = taskRepository.findByStatus(status, pageable);
-        } else if (priority != null) {
-            tasks = taskRepository.findByPriority(priority, pageable);
-        } else {
-            tasks = taskRepository.findAll(pageable);
+        return taskRepository.findRows(spec, sorted(pageable, filter.getSort())).map(taskMapper::toDto);
+    }
+
+    public TaskDTO getTaskById(Long id) {
+        TaskDetailCache.Entry entry = taskDetailCache.get(id, this::loadDetail);
+        if (entry == null) {
+            throw new ResourceNotFoundException("Task not found with id " + id);
+        }
+        if (!projectOrTaskOwnerAccess(entry.getOwnerId(), entry.getAssigneeId(), userService.getCurrentUser())) {
+            throw new AuthorizationFailedException("Not allowed to access this task");
         }
-        List<TaskDTO> filtered = tasks.stream()
-                .filter(task -> projectOrTaskOwnerAccess(task, userService.getCurrentUserEmail()))
-                .map(taskMapper::toDto)
-                .toList();
 
-        return new PageImpl<>(filtered, pageable, filtered.size());
+        return entry.getTask();
     }
 
-    public TaskDTO getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(()-> new ResourceNotFoundException("Task not found with id " + id));
-        ProjectOrTaskOwnerOrAdminValidation(task);
+    /**
+     * The current tag of the task, taken from the detail cache or else read without loading the
+     * task, so a conditional GET can be answered before anything is loaded and mapped. Applies the
+     * same access rules as {@link #getTaskById}.
+     */
+    public String getTaskETag(Long id) {
+        TaskDetailCache.Entry cached = taskDetailCache.getIfPresent(id);
+        TaskVersion version = cached != null
+                ? new TaskVersion(cached.getVersion(), cached.getOwnerId(), cached.getAssigneeId())
+                : taskRepository.findVersionById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException("Task not found with id " + id));
+        if (!projectOrTaskOwnerAccess(version.getOwnerId(), version.getAssigneeId(), userService.getCurrentUser())) {
+            throw new AuthorizationFailedException("Not allowed to access this task");
+        }
+        return ETags.of(id, version);
+    }
 
-        return taskMapper.toDto(task);
+    private TaskDetailCache.Entry loadDetail(Long id) {
+        return taskRepository.findDetailedById(id)
+                .map(task -> new TaskDetailCache.Entry(taskMapper.toDto(task), task.getVersion(),
+                        task.getProject().getOwner() == null ? null : task.getProject().getOwner().getId(),
+                        task.getAssignedUser() == null ? null : task.getAssignedUser().getId()))
+                .orElse(null);
     }
 
     @Transactional
@@ -73,14 +120,20 @@ public class TaskService {
         ProjectOrTaskOwnerOrAdminValidation(task);
 
         Task saved = taskRepository.save(task);
+        taskCounterService.taskCreated(saved);
         return taskMapper.toDto(saved);
     }
 
+    /**
+     * @param ifMatch the request's {@code If-Match} header, or {@code null} to update unconditionally
+     */
     @Transactional
-    public TaskDTO updateTask(Long id, TaskCreateDTO taskDTO) {
-        Task task = taskRepository.findById(id)
+    public TaskDTO updateTask(Long id, TaskCreateDTO taskDTO, String ifMatch) {
+        Task task = taskRepository.findDetailedById(id)
                 .orElseThrow(()-> new ResourceNotFoundException("Task not found with id " + id));
         ProjectOrTaskOwnerOrAdminValidation(task);
+        checkIfMatch(task, ifMatch);
+        TaskCount countedAs = TaskCount.of(task);
 
         if (taskDTO.getProjectId() != null) {
             Project project = projectRepository.findById(taskDTO.getProjectId())
@@ -98,21 +151,33 @@ public class TaskService {
         }
 
         taskMapper.updateEntity(taskDTO, task);
-        Task updated = taskRepository.save(task);
+        // Flushed so the response carries the new updateDate, and with it the new ETag.
+        Task updated = taskRepository.saveAndFlush(task);
+        taskDetailCache.evict(id);
+        taskCounterService.taskChanged(countedAs, updated);
         return taskMapper.toDto(updated);
     }
 
     @Transactional
     public void deleteTask(Long id) {
-        Task task = taskRepository.findById(id)
+        Task task = taskRepository.findForAuthorizationById(id)
                 .orElseThrow(()-> new ResourceNotFoundException("Task not found with id " + id));
         ProjectOrTaskOwnerOrAdminValidation(task);
 
         taskRepository.delete(task);
+        taskDetailCache.evict(id);
+        taskCounterService.taskDeleted(task);
     }
 
+    /**
+     * Sets a single field, so an attempt that loses an optimistic-locking race is simply re-run
+     * against the current row.
+     */
+    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttempts = 3,
+            backoff = @Backoff(delay = 10, multiplier = 2, random = true))
+    @Transactional
     public TaskDTO assignTaskToUser(Long taskId, Long userId) {
-        adminOrManagerValidation(userId);
+        adminOrManagerValidation();
 
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found  with id " + taskId));
@@ -120,68 +185,208 @@ public class TaskService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found  with id " + userId));
 
+        TaskCount countedAs = TaskCount.of(task);
         task.setAssignedUser(user);
         Task save = taskRepository.save(task);
+        taskDetailCache.evict(taskId);
+        taskCounterService.taskChanged(countedAs, save);
         return taskMapper.toDto(save);
     }
 
+    /**
+     * Sets only the status, so an attempt that loses an optimistic-locking race is re-run against
+     * the current row and a concurrent edit of other fields is kept. With {@code If-Match} the
+     * re-run fails with 412 instead, since the tag no longer matches.
+     *
+     * @param ifMatch the request's {@code If-Match} header, or {@code null} to update unconditionally
+     */
+    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttempts = 3,
+            backoff = @Backoff(delay = 10, multiplier = 2, random = true))
     @Transactional
-    public TaskDTO updateTaskStatus(Long taskId, UpdateTaskStatusDTO dto) {
-        Task task = taskRepository.findById(taskId)
+    public TaskDTO updateTaskStatus(Long taskId, UpdateTaskStatusDTO dto, String ifMatch) {
+        Task task = taskRepository.findDetailedById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id " + taskId));
 
-        if(task.getAssignedUser() != null && task.getAssignedUser().getEmail().equals(userService.getCurrentUserEmail()))
+        if(task.getAssignedUser() != null && task.getAssignedUser().getId().equals(userService.getCurrentUser().getId()))
             throw new AuthorizationFailedException("You are not allowed to update this task");
+        checkIfMatch(task, ifMatch);
 
+        TaskCount countedAs = TaskCount.of(task);
         task.setStatus(dto.getStatus());
-        Task updated = taskRepository.save(task);
+        Task updated = taskRepository.saveAndFlush(task);
+        taskDetailCache.evict(taskId);
+        taskCounterService.taskChanged(countedAs, updated);
 
         return taskMapper.toDto(updated);
     }
 
-    public Page<TaskDTO> getTasksByAssignedUser(Long userId, Pageable pageable, TaskStatus status, TaskPriority priority) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(()-> new ResourceNotFoundException("User not found: " + userId));
-
-        Page<Task> tasks;
+    /**
+     * Moves every selected task the current user may access to the new status in a single
+     * UPDATE. Tasks the user cannot access are left alone and not counted. The task counters
+     * are moved by the groups counted just before the UPDATE; a task changed concurrently in
+     * between is left to {@link TaskCounterService#reconcile()}.
+     */
+    @Transactional
+    public BulkUpdateResultDTO updateTaskStatuses(BulkStatusUpdateDTO dto) {
+        boolean byIds = dto.getTaskIds() != null && !dto.getTaskIds().isEmpty();
+        if (byIds == (dto.getProjectId() != null)) {
+            throw new BadRequestException("Specify either taskIds or projectId");
+        }
 
-        if (status != null && priority != null) {
-            tasks = taskRepository.findByAssignedUserAndStatusAndPriority(user, status, priority, pageable);
-        } else if (status != null) {
-            tasks = taskRepository.findByAssignedUserAndStatus(user, status, pageable);
-        } else if (priority != null) {
-            tasks = taskRepository.findByAssignedUserAndPriority(user, priority, pageable);
+        CurrentUser currentUser = userService.getCurrentUser();
+        int updated;
+        if (byIds) {
+            taskCounterService.tasksMoved(taskRepository.countByIds(dto.getTaskIds(), currentUser.getId(),
+                    currentUser.isAdmin()), group -> group.withStatus(dto.getStatus()));
+            updated = taskRepository.updateStatusByIds(dto.getTaskIds(), dto.getStatus(), Task.now(),
+                    currentUser.getId(), currentUser.isAdmin());
         } else {
-            tasks = taskRepository.findByAssignedUser(user, pageable);
+            if (!projectRepository.existsById(dto.getProjectId())) {
+                throw new ResourceNotFoundException("Project not found with id " + dto.getProjectId());
+            }
+            taskCounterService.tasksMoved(taskRepository.countByProject(dto.getProjectId(), dto.getCurrentStatus(),
+                    currentUser.getId(), currentUser.isAdmin()), group -> group.withStatus(dto.getStatus()));
+            updated = taskRepository.updateStatusByProject(dto.getProjectId(), dto.getCurrentStatus(), dto.getStatus(),
+                    Task.now(), currentUser.getId(), currentUser.isAdmin());
+        }
+        if (updated > 0) {
+            taskDetailCache.evictAll();
+        }
+        return new BulkUpdateResultDTO(updated);
+    }
+
+    /**
+     * Hands all of one user's tasks that are not DONE over to another user in a single UPDATE.
+     */
+    @Transactional
+    public BulkUpdateResultDTO reassignOpenTasks(BulkReassignDTO dto) {
+        adminOrManagerValidation();
+
+        User from = userRepository.findById(dto.getFromUserId())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found  with id " + dto.getFromUserId()));
+        User to = userRepository.findById(dto.getToUserId())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found  with id " + dto.getToUserId()));
+
+        taskCounterService.tasksMoved(taskRepository.countOpenTasks(from), group -> group.withAssigneeId(to.getId()));
+        int updated = taskRepository.reassignOpenTasks(from, to, Task.now());
+        if (updated > 0) {
+            taskDetailCache.evictAll();
+        }
+        return new BulkUpdateResultDTO(updated);
+    }
+
+    public Page<TaskDTO> getTasksByAssignedUser(Long userId, TaskFilterDTO filter, Pageable pageable) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found: " + userId);
+        }
+
+        Specification<Task> spec = visibleToCurrentUser()
+                .and(TaskSpecifications.assignedTo(userId))
+                .and(TaskSpecifications.matching(validated(filter)));
+
+        return taskRepository.findRows(spec, sorted(pageable, filter.getSort())).map(taskMapper::toDto);
+    }
+
+    public CursorPageDTO<TaskDTO> getTasksAfter(String after, int size, TaskFilterDTO filter) {
+        Specification<Task> spec = visibleToCurrentUser()
+                .and(TaskSpecifications.matching(validatedUnsorted(filter)));
+
+        return scroll(spec, after, size);
+    }
+
+    public CursorPageDTO<TaskDTO> getTasksByAssignedUserAfter(Long userId, String after, int size, TaskFilterDTO filter) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found: " + userId);
+        }
+
+        Specification<Task> spec = visibleToCurrentUser()
+                .and(TaskSpecifications.assignedTo(userId))
+                .and(TaskSpecifications.matching(validatedUnsorted(filter)));
+
+        return scroll(spec, after, size);
+    }
+
+    static TaskFilterDTO validated(TaskFilterDTO filter) {
+        if (filter.getDueFrom() != null && filter.getDueTo() != null && filter.getDueFrom().isAfter(filter.getDueTo())) {
+            throw new BadRequestException("dueFrom must not be after dueTo");
+        }
+        return filter;
+    }
+
+    // Cursor pages are always in (createDate, id) order, which is what the cursor encodes, and
+    // exports in id order.
+    static TaskFilterDTO validatedUnsorted(TaskFilterDTO filter) {
+        if (filter.getSort() != null && !filter.getSort().isBlank()) {
+            throw new BadRequestException("sort is only supported by page listings");
         }
+        return validated(filter);
+    }
 
-        List<TaskDTO> filtered = tasks.stream()
-                .filter(task -> projectOrTaskOwnerAccess(task, userService.getCurrentUserEmail()))
-                .map(taskMapper::toDto)
-                .toList();
+    /**
+     * The page request ordered by the given {@link TaskFilterDTO#getSort()} expression, with id
+     * as the final tie-breaker so pages never overlap.
+     */
+    static Pageable sorted(Pageable pageable, String sort) {
+        if (sort == null || sort.isBlank()) {
+            return pageable;
+        }
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String part : sort.split(",")) {
+            String property = part.strip();
+            boolean descending = property.startsWith("-");
+            if (descending) {
+                property = property.substring(1);
+            }
+            if (!SORTABLE.contains(property)) {
+                throw new BadRequestException("Cannot sort by '" + property + "'; use one of " + SORTABLE);
+            }
+            orders.add(descending ? Sort.Order.desc(property) : Sort.Order.asc(property));
+        }
+        if (orders.stream().noneMatch(order -> order.getProperty().equals("id"))) {
+            orders.add(Sort.Order.asc("id"));
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(orders));
+    }
 
-        return new PageImpl<>(filtered, pageable, filtered.size());
+    private CursorPageDTO<TaskDTO> scroll(Specification<Task> spec, String after, int size) {
+        int limit = TaskCursor.validatedSize(size);
+        TaskCursor cursor = TaskCursor.decode(after);
+        List<TaskRow> rows = taskRepository.findRowsAfter(spec, cursor.getCreateDate(), cursor.getId(), limit + 1);
+        return TaskCursor.slice(rows, limit, taskMapper::toDto);
+    }
+
+    private Specification<Task> visibleToCurrentUser() {
+        CurrentUser currentUser = userService.getCurrentUser();
+        return TaskSpecifications.visibleTo(currentUser.getId(), currentUser.isAdmin());
     }
 
     private void ProjectOrTaskOwnerOrAdminValidation(Task task) {
-        String currentUserEmail = userService.getCurrentUserEmail();
-        if (!projectOrTaskOwnerAccess(task, currentUserEmail)) {
+        if (!projectOrTaskOwnerAccess(task, userService.getCurrentUser())) {
             throw new AuthorizationFailedException("Not allowed to access this task");
         }
     }
-    private boolean projectOrTaskOwnerAccess(Task task, String currentUserEmail) {
-        User user = userRepository.findByEmail(currentUserEmail).orElseThrow(() -> new ResourceNotFoundException("User not found: " + currentUserEmail));
+    private boolean projectOrTaskOwnerAccess(Task task, CurrentUser currentUser) {
+        User owner = task.getProject().getOwner();
+        User assignee = task.getAssignedUser();
 
-        return task.getProject().getOwner().getEmail().equals(currentUserEmail) ||
-                (task.getAssignedUser() != null && task.getAssignedUser().getEmail().equals(currentUserEmail) ||
-                        user.getRole().equals(User.Role.ADMIN));
+        return projectOrTaskOwnerAccess(owner == null ? null : owner.getId(),
+                assignee == null ? null : assignee.getId(), currentUser);
     }
 
-    private void adminOrManagerValidation(Long userId) {
-        String currentUser = userService.getCurrentUserEmail();
-        User user = userRepository.findByEmail(currentUser)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found  with id " + userId));
-        if (!(user.getRole() == User.Role.MANAGER || user.getRole() == User.Role.ADMIN)) {
+    static boolean projectOrTaskOwnerAccess(Long ownerId, Long assigneeId, CurrentUser currentUser) {
+        return currentUser.getId().equals(ownerId) ||
+                currentUser.getId().equals(assigneeId) ||
+                currentUser.isAdmin();
+    }
+
+    private void checkIfMatch(Task task, String ifMatch) {
+        if (!ETags.matches(ifMatch, ETags.of(task.getId(), task.getVersion()))) {
+            throw new PreconditionFailedException("Task has been modified since it was read");
+        }
+    }
+
+    private void adminOrManagerValidation() {
+        if (!userService.getCurrentUser().isManagerOrAdmin()) {
             throw new AuthorizationFailedException("Only MANAGER or ADMIN can assign tasks");
         }
     }
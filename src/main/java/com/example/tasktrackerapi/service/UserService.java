@@ -2,19 +2,23 @@ package com.example.tasktrackerapi.service;
 
 import com.example.tasktrackerapi.entity.User;
 import com.example.tasktrackerapi.repository.UserRepository;
+import com.example.tasktrackerapi.security.CurrentUser;
+import com.example.tasktrackerapi.security.TokenRevocationRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
-public class UserService implements UserDetailsService {
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -23,9 +27,25 @@ public class UserService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
     }
 
-    public User saveUser(User user) {
+    /**
+     * Stores a rehash of the password that was just verified, when its cost differs from the
+     * configured one. The credentials are unchanged, so tokens stay valid.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = (User) userDetails;
+        user.setPassword(newPassword);
         return userRepository.save(user);
     }
+
+    public User saveUser(User user) {
+        boolean existing = user.getId() != null;
+        User saved = userRepository.save(user);
+        if (existing) {
+            tokenRevocationRegistry.revokeTokensOf(saved);
+        }
+        return saved;
+    }
     public String getCurrentUserEmail() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !auth.isAuthenticated()) {
@@ -33,4 +53,17 @@ public class UserService implements UserDetailsService {
         }
         return auth.getName();
     }
+
+    public CurrentUser getCurrentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated()) {
+            throw new RuntimeException("No authenticated user found");
+        }
+        if (auth.getPrincipal() instanceof CurrentUser currentUser) {
+            return currentUser;
+        }
+        User user = userRepository.findByEmail(auth.getName())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + auth.getName()));
+        return CurrentUser.of(user);
+    }
 }
@@ -0,0 +1,46 @@
+create table users (
+    id          bigint generated by default as identity primary key,
+    email       varchar(255) not null,
+    password    varchar(255) not null,
+    role        varchar(255),
+    create_date timestamp(6),
+    update_date timestamp(6),
+    constraint uk_users_email unique (email)
+);
+
+create table projects (
+    id          bigint generated by default as identity primary key,
+    name        varchar(255) not null,
+    description varchar(255),
+    owner_id    bigint,
+    create_date timestamp(6),
+    update_date timestamp(6)
+);
+
+create table tasks (
+    id               bigint generated by default as identity primary key,
+    title            varchar(255) not null,
+    description      varchar(255),
+    status           varchar(255) not null,
+    priority         varchar(255) not null,
+    due_date         date,
+    project_id       bigint       not null,
+    assigned_user_id bigint,
+    create_date      timestamp(6) not null,
+    update_date      timestamp(6)
+);
+
+-- Task filter access paths. Queries on the assignee alone are served by the foreign key index.
+create index idx_tasks_assignee_status_priority on tasks (assigned_user_id, status, priority);
+create index idx_tasks_project_status on tasks (project_id, status);
+create index idx_tasks_status_priority on tasks (status, priority);
+create index idx_tasks_due_date on tasks (due_date);
+
+alter table projects
+    add constraint fk_projects_owner foreign key (owner_id) references users (id);
+
+alter table tasks
+    add constraint fk_tasks_project foreign key (project_id) references projects (id);
+
+alter table tasks
+    add constraint fk_tasks_assigned_user foreign key (assigned_user_id) references users (id);
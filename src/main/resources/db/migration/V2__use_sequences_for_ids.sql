@@ -0,0 +1,13 @@
+-- Ids come from pooled sequences so Hibernate can batch inserts instead of running each
+-- INSERT on its own to read back an identity value. The increment matches allocationSize.
+create sequence users_seq start with 1 increment by 50;
+create sequence projects_seq start with 1 increment by 50;
+create sequence tasks_seq start with 1 increment by 50;
+
+alter sequence users_seq restart with (select coalesce(max(id), 0) + 1 from users);
+alter sequence projects_seq restart with (select coalesce(max(id), 0) + 1 from projects);
+alter sequence tasks_seq restart with (select coalesce(max(id), 0) + 1 from tasks);
+
+alter table users alter column id drop identity;
+alter table projects alter column id drop identity;
+alter table tasks alter column id drop identity;
@@ -0,0 +1,4 @@
+-- Optimistic locking: every update checks and increments the row's version, so concurrent
+-- edits of the same task or project fail instead of silently overwriting each other.
+alter table tasks add column version bigint default 0 not null;
+alter table projects add column version bigint default 0 not null;
@@ -0,0 +1,30 @@
+-- Task counts per project, assignee, status and priority, for the statistics endpoint.
+-- Writers only append to task_counter_deltas, so concurrent writes never contend on a
+-- counter row; a scheduled job folds the deltas into task_counters. Reads add up both.
+-- assignee_id is 0 for unassigned tasks, since it is part of the key.
+create table task_counters (
+    project_id  bigint       not null,
+    assignee_id bigint       not null,
+    status      varchar(255) not null,
+    priority    varchar(255) not null,
+    task_count  bigint       not null,
+    constraint pk_task_counters primary key (project_id, assignee_id, status, priority),
+    constraint fk_task_counters_project foreign key (project_id) references projects (id) on delete cascade
+);
+
+create index idx_task_counters_assignee on task_counters (assignee_id);
+
+create table task_counter_deltas (
+    id          bigint generated by default as identity primary key,
+    project_id  bigint       not null,
+    assignee_id bigint       not null,
+    status      varchar(255) not null,
+    priority    varchar(255) not null,
+    delta       bigint       not null,
+    constraint fk_task_counter_deltas_project foreign key (project_id) references projects (id) on delete cascade
+);
+
+insert into task_counters (project_id, assignee_id, status, priority, task_count)
+select project_id, coalesce(assigned_user_id, 0), status, priority, count(*)
+from tasks
+group by project_id, coalesce(assigned_user_id, 0), status, priority;
@@ -0,0 +1,7 @@
+-- The entities use Hibernate's pooled optimizer with allocationSize 50: a sequence value v
+-- reserves the ids v - 49 .. v. V2 restarted the sequences at max(id) + 1, so the first block
+-- handed out overlapped rows that already existed. Restarting at max(id) + 50 makes the first
+-- block start right after the highest existing id.
+alter sequence users_seq restart with (select coalesce(max(id), 0) + 50 from users);
+alter sequence projects_seq restart with (select coalesce(max(id), 0) + 50 from projects);
+alter sequence tasks_seq restart with (select coalesce(max(id), 0) + 50 from tasks);
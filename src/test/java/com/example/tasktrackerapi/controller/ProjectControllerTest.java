@@ -3,21 +3,32 @@ package com.example.tasktrackerapi.controller;
 import com.example.tasktrackerapi.dtos.ProjectCreateDTO;
 import com.example.tasktrackerapi.dtos.ProjectDTO;
 import com.example.tasktrackerapi.exeption.GlobalExceptionHandler;
+import com.example.tasktrackerapi.exeption.PreconditionFailedException;
 import com.example.tasktrackerapi.exeption.ResourceNotFoundException;
 import com.example.tasktrackerapi.security.JwtUtil;
 import com.example.tasktrackerapi.service.ProjectService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.CannotCreateTransactionException;
 
+import java.sql.SQLTransientConnectionException;
 import java.util.List;
 import java.util.ArrayList;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -25,6 +36,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 class ProjectControllerTest {
 
+    private static final String ETAG = "\"1-1a2b-3\"";
+
     private MockMvc mockMvc;
 
     @Mock
@@ -52,15 +65,27 @@ class ProjectControllerTest {
 
     @Test
     void testGetAllProjects() throws Exception {
-        when(projectService.getAllProjects()).thenReturn(List.of(projectDTO));
+        when(projectService.getAllProjects(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(projectDTO), PageRequest.of(0, 10), 1));
 
         mockMvc.perform(get("/api/projects"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].name").value("Test Project"));
+                .andExpect(jsonPath("$.content[0].name").value("Test Project"));
+        verify(projectService, never()).getAllProjectsWithTasks(any(Pageable.class), anyInt());
+    }
+
+    @Test
+    void testGetAllProjects_IncludeTasks() throws Exception {
+        when(projectService.getAllProjectsWithTasks(any(Pageable.class), eq(3))).thenReturn(new PageImpl<>(List.of(projectDTO), PageRequest.of(0, 10), 1));
+
+        mockMvc.perform(get("/api/projects").param("include", "tasks").param("taskLimit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Test Project"));
+        verify(projectService).getAllProjectsWithTasks(any(Pageable.class), eq(3));
     }
 
     @Test
     void testGetProjectById_Found() throws Exception {
+        when(projectService.getProjectETag(1L)).thenReturn(ETAG);
         when(projectService.getProjectById(1L)).thenReturn(projectDTO);
 
         mockMvc.perform(get("/api/projects/1"))
@@ -68,9 +93,30 @@ class ProjectControllerTest {
                 .andExpect(jsonPath("$.name").value("Test Project"));
     }
 
+    @Test
+    void testGetProjectById_NotModified() throws Exception {
+        when(projectService.getProjectETag(1L)).thenReturn(ETAG);
+
+        mockMvc.perform(get("/api/projects/1").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(content().string(""));
+        verify(projectService, never()).getProjectById(1L);
+    }
+
+    @Test
+    void testGetProjectById_ReturnsETag() throws Exception {
+        when(projectService.getProjectETag(1L)).thenReturn(ETAG);
+        when(projectService.getProjectById(1L)).thenReturn(projectDTO);
+
+        mockMvc.perform(get("/api/projects/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-0-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG));
+    }
+
     @Test
     void testGetProjectById_NotFound() throws Exception {
-        when(projectService.getProjectById(2L)).thenThrow(new ResourceNotFoundException("Project not found"));
+        when(projectService.getProjectETag(2L)).thenThrow(new ResourceNotFoundException("Project not found"));
 
         mockMvc.perform(get("/api/projects/2"))
                 .andExpect(status().isNotFound())
@@ -78,6 +124,27 @@ class ProjectControllerTest {
                 .andExpect(jsonPath("$.status").value(404));
     }
 
+    @Test
+    void testGetProjectById_PoolTimeoutIs503() throws Exception {
+        when(projectService.getProjectETag(1L)).thenThrow(new CannotCreateTransactionException("Could not open JPA EntityManager",
+                new SQLTransientConnectionException("Connection is not available, request timed out after 2000ms")));
+
+        mockMvc.perform(get("/api/projects/1"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
+    @Test
+    void testGetProjectById_OtherResourceFailuresAreNotRetryable() {
+        when(projectService.getProjectETag(1L)).thenThrow(
+                new CannotGetJdbcConnectionException("Failed to obtain JDBC Connection"),
+                new DataAccessResourceFailureException("Table \"PROJECTS\" not found"));
+
+        // not handled as 503, so it ends as a 500 outside the standalone setup
+        assertThrows(ServletException.class, () -> mockMvc.perform(get("/api/projects/1")));
+        assertThrows(ServletException.class, () -> mockMvc.perform(get("/api/projects/1")));
+    }
+
     @Test
     void testCreateProject() throws Exception {
         when(projectService.createProject(projectCreateDTO)).thenReturn(projectDTO);
@@ -91,7 +158,7 @@ class ProjectControllerTest {
 
     @Test
     void testUpdateProject_Success() throws Exception {
-        when(projectService.updateProject(1L, projectCreateDTO)).thenReturn(projectDTO);
+        when(projectService.updateProject(1L, projectCreateDTO, null)).thenReturn(projectDTO);
 
         mockMvc.perform(put("/api/projects/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -100,9 +167,22 @@ class ProjectControllerTest {
                 .andExpect(jsonPath("$.name").value("Test Project"));
     }
 
+    @Test
+    void testUpdateProject_IfMatchMismatch() throws Exception {
+        when(projectService.updateProject(1L, projectCreateDTO, "\"1-0\""))
+                .thenThrow(new PreconditionFailedException("Project has been modified since it was read"));
+
+        mockMvc.perform(put("/api/projects/1")
+                        .header(HttpHeaders.IF_MATCH, "\"1-0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(projectCreateDTO)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412));
+    }
+
     @Test
     void testUpdateProject_NotFound() throws Exception {
-        when(projectService.updateProject(1L, projectCreateDTO)).thenThrow(new ResourceNotFoundException("Project not found"));
+        when(projectService.updateProject(1L, projectCreateDTO, null)).thenThrow(new ResourceNotFoundException("Project not found"));
         mockMvc.perform(put("/api/projects/1")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(projectCreateDTO)))
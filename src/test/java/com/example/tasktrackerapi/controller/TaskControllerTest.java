@@ -3,6 +3,10 @@ package com.example.tasktrackerapi.controller;
 import com.example.tasktrackerapi.dtos.*;
 import com.example.tasktrackerapi.entity.TaskPriority;
 import com.example.tasktrackerapi.entity.TaskStatus;
+import com.example.tasktrackerapi.service.TaskBatchService;
+import com.example.tasktrackerapi.service.TaskCounterService;
+import com.example.tasktrackerapi.service.TaskExportService;
+import com.example.tasktrackerapi.service.TaskImportService;
 import com.example.tasktrackerapi.service.TaskService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,10 +17,13 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -26,6 +33,18 @@ class TaskControllerTest {
     @Mock
     private TaskService taskService;
 
+    @Mock
+    private TaskBatchService taskBatchService;
+
+    @Mock
+    private TaskExportService taskExportService;
+
+    @Mock
+    private TaskImportService taskImportService;
+
+    @Mock
+    private TaskCounterService taskCounterService;
+
     @InjectMocks
     private TaskController taskController;
 
@@ -68,25 +87,51 @@ class TaskControllerTest {
     @Test
     void testGetAllTasks() {
         Page<TaskDTO> page = new PageImpl<>(Collections.singletonList(taskDTO));
-        when(taskService.getTasks(ArgumentMatchers.any(Pageable.class), ArgumentMatchers.any(), ArgumentMatchers.any()))
+        TaskFilterDTO filter = new TaskFilterDTO();
+        when(taskService.getTasks(ArgumentMatchers.eq(filter), ArgumentMatchers.any(Pageable.class)))
                 .thenReturn(page);
 
-        ResponseEntity<Page<TaskDTO>> response = taskController.getAllTasks(0, 10, null, null);
+        ResponseEntity<Page<TaskDTO>> response = taskController.getAllTasks(0, 10, filter);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(1, response.getBody().getContent().size());
-        verify(taskService, times(1)).getTasks(any(Pageable.class), any(), any());
+        verify(taskService, times(1)).getTasks(eq(filter), any(Pageable.class));
     }
 
     @Test
     void testGetTaskById() {
+        when(taskService.getTaskETag(1L)).thenReturn("\"1-v3\"");
         when(taskService.getTaskById(1L)).thenReturn(taskDTO);
 
-        ResponseEntity<TaskDTO> response = taskController.getTaskById(1L);
+        ResponseEntity<TaskDTO> response = taskController.getTaskById(1L, null);
         assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"1-v3\"", response.getHeaders().getETag());
         assertEquals("Test Task", response.getBody().getTitle());
         verify(taskService, times(1)).getTaskById(1L);
     }
 
+    @Test
+    void testGetTaskById_NotModifiedSkipsTheLoad() {
+        when(taskService.getTaskETag(1L)).thenReturn("\"1-v3\"");
+
+        ResponseEntity<TaskDTO> response = taskController.getTaskById(1L, "\"1-v3\"");
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        verify(taskService, never()).getTaskById(1L);
+    }
+
+    @Test
+    void testGetTaskStats() {
+        TaskStatsDTO stats = new TaskStatsDTO();
+        stats.setProjectId(1L);
+        stats.setTotal(4);
+        when(taskCounterService.getStats(1L, null)).thenReturn(stats);
+
+        ResponseEntity<TaskStatsDTO> response = taskController.getTaskStats(1L, null);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(4, response.getBody().getTotal());
+        verify(taskCounterService).getStats(1L, null);
+    }
+
     @Test
     void testCreateTask() {
         when(taskService.createTask(taskCreateDTO)).thenReturn(taskDTO);
@@ -99,11 +144,11 @@ class TaskControllerTest {
 
     @Test
     void testUpdateTask() {
-        when(taskService.updateTask(1L, taskCreateDTO)).thenReturn(taskDTO);
+        when(taskService.updateTask(1L, taskCreateDTO, null)).thenReturn(taskDTO);
 
-        ResponseEntity<TaskDTO> response = taskController.updateTask(1L, taskCreateDTO);
+        ResponseEntity<TaskDTO> response = taskController.updateTask(1L, null, taskCreateDTO);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        verify(taskService, times(1)).updateTask(1L, taskCreateDTO);
+        verify(taskService, times(1)).updateTask(1L, taskCreateDTO, null);
     }
 
     @Test
@@ -127,22 +172,115 @@ class TaskControllerTest {
 
     @Test
     void testUpdateTaskStatus() {
-        when(taskService.updateTaskStatus(1L, updateTaskStatusDTO)).thenReturn(taskDTO);
+        when(taskService.updateTaskStatus(1L, updateTaskStatusDTO, null)).thenReturn(taskDTO);
 
-        ResponseEntity<TaskDTO> response = taskController.updateTaskStatus(1L, updateTaskStatusDTO);
+        ResponseEntity<TaskDTO> response = taskController.updateTaskStatus(1L, null, updateTaskStatusDTO);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        verify(taskService, times(1)).updateTaskStatus(1L, updateTaskStatusDTO);
+        verify(taskService, times(1)).updateTaskStatus(1L, updateTaskStatusDTO, null);
     }
 
     @Test
     void testGetTasksByAssignedUser() {
         Page<TaskDTO> page = new PageImpl<>(Collections.singletonList(taskDTO));
-        when(taskService.getTasksByAssignedUser(eq(1L), any(Pageable.class), any(), any()))
+        TaskFilterDTO filter = new TaskFilterDTO();
+        when(taskService.getTasksByAssignedUser(eq(1L), eq(filter), any(Pageable.class)))
                 .thenReturn(page);
 
-        ResponseEntity<Page<TaskDTO>> response = taskController.getTasksByAssignedUser(1L, 0, 10, null, null);
+        ResponseEntity<Page<TaskDTO>> response = taskController.getTasksByAssignedUser(1L, 0, 10, filter);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getContent().size());
+        verify(taskService, times(1)).getTasksByAssignedUser(eq(1L), eq(filter), any(Pageable.class));
+    }
+
+    @Test
+    void testGetAllTasksAfter() {
+        CursorPageDTO<TaskDTO> slice = new CursorPageDTO<>(Collections.singletonList(taskDTO), "next", true);
+        TaskFilterDTO filter = new TaskFilterDTO();
+        when(taskService.getTasksAfter("", 10, filter)).thenReturn(slice);
+
+        ResponseEntity<CursorPageDTO<TaskDTO>> response = taskController.getAllTasksAfter("", 10, filter);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("next", response.getBody().getNextCursor());
+        verify(taskService, times(1)).getTasksAfter("", 10, filter);
+    }
+
+    @Test
+    void testGetTasksByAssignedUserAfter() {
+        CursorPageDTO<TaskDTO> slice = new CursorPageDTO<>(Collections.singletonList(taskDTO), null, false);
+        TaskFilterDTO filter = new TaskFilterDTO();
+        when(taskService.getTasksByAssignedUserAfter(1L, "abc", 10, filter)).thenReturn(slice);
+
+        ResponseEntity<CursorPageDTO<TaskDTO>> response = taskController.getTasksByAssignedUserAfter(1L, "abc", 10, filter);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(1, response.getBody().getContent().size());
-        verify(taskService, times(1)).getTasksByAssignedUser(eq(1L), any(Pageable.class), any(), any());
+        verify(taskService, times(1)).getTasksByAssignedUserAfter(1L, "abc", 10, filter);
+    }
+
+    @Test
+    void testCreateTasks_AllCreated() {
+        TaskBatchResultDTO result = new TaskBatchResultDTO(1, 0,
+                List.of(TaskBatchItemResultDTO.created(0, taskDTO)));
+        when(taskBatchService.createTasks(List.of(taskCreateDTO))).thenReturn(result);
+
+        ResponseEntity<TaskBatchResultDTO> response = taskController.createTasks(List.of(taskCreateDTO));
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(1, response.getBody().getCreatedCount());
+    }
+
+    @Test
+    void testCreateTasks_PartialFailure() {
+        TaskBatchResultDTO result = new TaskBatchResultDTO(1, 1, List.of(
+                TaskBatchItemResultDTO.created(0, taskDTO),
+                TaskBatchItemResultDTO.failed(1, "Project not found with id 2")));
+        when(taskBatchService.createTasks(anyList())).thenReturn(result);
+
+        ResponseEntity<TaskBatchResultDTO> response = taskController.createTasks(List.of(taskCreateDTO, taskCreateDTO));
+        assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+        assertEquals(1, response.getBody().getFailedCount());
+    }
+
+    @Test
+    void testUpdateTaskStatuses() {
+        BulkStatusUpdateDTO dto = BulkStatusUpdateDTO.builder().projectId(1L).status(TaskStatus.DONE).build();
+        when(taskService.updateTaskStatuses(dto)).thenReturn(new BulkUpdateResultDTO(5));
+
+        ResponseEntity<BulkUpdateResultDTO> response = taskController.updateTaskStatuses(dto);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(5, response.getBody().getUpdatedCount());
+    }
+
+    @Test
+    void testReassignOpenTasks() {
+        BulkReassignDTO dto = new BulkReassignDTO(1L, 2L);
+        when(taskService.reassignOpenTasks(dto)).thenReturn(new BulkUpdateResultDTO(2));
+
+        ResponseEntity<BulkUpdateResultDTO> response = taskController.reassignOpenTasks(dto);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, response.getBody().getUpdatedCount());
+    }
+
+    @Test
+    void testExportTasks() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        TaskFilterDTO filter = TaskFilterDTO.builder().status(List.of(TaskStatus.DONE)).build();
+
+        taskController.exportTasks(filter, response);
+
+        assertEquals("application/x-ndjson;charset=UTF-8", response.getContentType());
+        verify(taskExportService, times(1)).exportTasks(eq(filter), any());
+    }
+
+    @Test
+    void testImportTasks_PicksFormatFromContentType() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContentType("text/csv;charset=UTF-8");
+        request.setContent("title\n".getBytes());
+        TaskImportResultDTO result = new TaskImportResultDTO();
+        when(taskImportService.importTasks(any(), eq(TaskImportService.Format.CSV))).thenReturn(result);
+
+        ResponseEntity<TaskImportResultDTO> response = taskController.importTasks(request);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(result, response.getBody());
     }
 }
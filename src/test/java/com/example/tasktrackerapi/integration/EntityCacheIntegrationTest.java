@@ -0,0 +1,108 @@
+package com.example.tasktrackerapi.integration;
+
+import com.example.tasktrackerapi.entity.Project;
+import com.example.tasktrackerapi.entity.User;
+import com.example.tasktrackerapi.repository.ProjectRepository;
+import com.example.tasktrackerapi.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that users and projects are served from the second-level cache once loaded, and that
+ * committed updates and deletes are visible through it. Not transactional on purpose: the cache
+ * is only written when a transaction commits.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class EntityCacheIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private User user;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = userRepository.save(User.builder()
+                .email("cache-user")
+                .password("12345678")
+                .role(User.Role.USER)
+                .build());
+        project = projectRepository.save(Project.builder()
+                .name("Cached")
+                .description("Before")
+                .owner(user)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.findById(project.getId()).ifPresent(projectRepository::delete);
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void findUserById_IsServedFromCache() {
+        userRepository.findById(user.getId()).orElseThrow();
+        statistics.clear();
+
+        User cached = userRepository.findById(user.getId()).orElseThrow();
+
+        assertEquals("cache-user", cached.getEmail());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getDomainDataRegionStatistics(User.CACHE_REGION).getHitCount() > 0);
+    }
+
+    @Test
+    void findUserByEmail_IsServedFromNaturalIdCache() {
+        userRepository.findByEmail("cache-user").orElseThrow();
+        statistics.clear();
+
+        User cached = userRepository.findByEmail("cache-user").orElseThrow();
+
+        assertEquals(user.getId(), cached.getId());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getNaturalIdCacheHitCount() > 0);
+    }
+
+    @Test
+    void updatedProject_IsVisibleThroughCache() {
+        Project loaded = projectRepository.findById(project.getId()).orElseThrow();
+        loaded.setDescription("After");
+        projectRepository.save(loaded);
+        statistics.clear();
+
+        Project cached = projectRepository.findById(project.getId()).orElseThrow();
+
+        assertEquals("After", cached.getDescription());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void deletedProject_IsEvictedFromCache() {
+        projectRepository.findById(project.getId()).orElseThrow();
+
+        projectRepository.deleteById(project.getId());
+
+        assertTrue(projectRepository.findById(project.getId()).isEmpty());
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.tasktrackerapi.integration;
+
+import com.example.tasktrackerapi.dtos.UserLoginDTO;
+import com.example.tasktrackerapi.entity.User;
+import com.example.tasktrackerapi.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Logins run on the login executor, so this test commits its users instead of running in a
+ * test transaction the executor threads could not see.
+ */
+@SpringBootTest(properties = {
+        "tasktracker.login.bcrypt-strength=5",
+        "tasktracker.login.max-failures-per-account=2",
+        "tasktracker.login.max-failures-per-address=3"})
+@AutoConfigureMockMvc
+class LoginIntegrationTest {
+
+    private static final String PASSWORD = "correct-horse";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        // Failed logins are remembered for the whole context, so every test gets an account of its own.
+        email = "login-" + UUID.randomUUID();
+        user = userRepository.save(User.builder()
+                .email(email)
+                .password(new BCryptPasswordEncoder(4).encode(PASSWORD))
+                .role(User.Role.USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void login_IssuesTokenAndRehashesWithTheConfiguredCost() throws Exception {
+        login(email, PASSWORD, "10.0.0.1")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").isNotEmpty());
+
+        String stored = userRepository.findById(user.getId()).orElseThrow().getPassword();
+        assertThat(stored).startsWith("$2a$05$");
+        assertThat(new BCryptPasswordEncoder().matches(PASSWORD, stored)).isTrue();
+    }
+
+    @Test
+    void repeatedFailures_LockTheAccountBeforeThePasswordIsChecked() throws Exception {
+        login(email, "wrong", "10.0.0.2").andExpect(status().isUnauthorized());
+        login(email.toUpperCase(), "wrong", "10.0.0.3").andExpect(status().isUnauthorized());
+
+        mockMvc.perform(loginRequest(email, PASSWORD, "10.0.0.4"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    @Test
+    void repeatedFailures_LockTheAddressForEveryAccount() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            login("nobody-" + i, "wrong", "10.0.0.5").andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(loginRequest(email, PASSWORD, "10.0.0.5"))
+                .andExpect(status().isTooManyRequests());
+        login(email, PASSWORD, "10.0.0.6").andExpect(status().isOk());
+    }
+
+    private ResultActions login(String username, String password, String address) throws Exception {
+        MvcResult started = mockMvc.perform(loginRequest(username, password, address))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+
+    private MockHttpServletRequestBuilder loginRequest(
+            String username, String password, String address) throws Exception {
+        return post("/api/auth/login")
+                .with(request -> {
+                    request.setRemoteAddr(address);
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new UserLoginDTO(username, password)));
+    }
+}
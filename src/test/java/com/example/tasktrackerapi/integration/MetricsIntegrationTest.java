@@ -0,0 +1,87 @@
+package com.example.tasktrackerapi.integration;
+
+import com.example.tasktrackerapi.dtos.UserDTO;
+import com.example.tasktrackerapi.entity.User;
+import com.example.tasktrackerapi.repository.UserRepository;
+import com.example.tasktrackerapi.security.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Metrics export is off in tests unless asked for, hence {@link AutoConfigureObservability}.
+ */
+@SpringBootTest
+@AutoConfigureObservability(tracing = false)
+@Transactional
+@AutoConfigureMockMvc
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() {
+        User admin = userRepository.save(User.builder()
+                .email("metrics-admin")
+                .password("12345678")
+                .role(User.Role.ADMIN)
+                .build());
+        adminToken = jwtUtil.generateToken(admin);
+    }
+
+    @Test
+    void prometheus_ExposesLatencyStatementAndPoolMetrics() throws Exception {
+        mockMvc.perform(get("/api/tasks")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UserDTO("metrics-user", "12345678", User.Role.USER))))
+                .andExpect(status().isOk());
+
+        String body = mockMvc.perform(get("/actuator/prometheus")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body)
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("tasktracker_task_service_seconds_bucket{")
+                .contains("method=\"getTasks\"")
+                .containsPattern("tasktracker_sql_statements_sum\\{method=\"GET\",uri=\"/api/tasks\"} [1-9]")
+                .contains("tasktracker_jwt_verify_seconds_count")
+                .contains("tasktracker_password_hash_seconds_count{operation=\"encode\"}")
+                .contains("hikaricp_connections_acquire_seconds_bucket{")
+                .contains("hikaricp_connections_active{");
+    }
+
+    @Test
+    void prometheus_RequiresAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.tasktrackerapi.integration;
+
+import com.example.tasktrackerapi.dtos.TaskCreateDTO;
+import com.example.tasktrackerapi.dtos.UserResponseDTO;
+import com.example.tasktrackerapi.entity.Project;
+import com.example.tasktrackerapi.entity.Task;
+import com.example.tasktrackerapi.entity.TaskPriority;
+import com.example.tasktrackerapi.entity.TaskStatus;
+import com.example.tasktrackerapi.entity.User;
+import com.example.tasktrackerapi.repository.ProjectRepository;
+import com.example.tasktrackerapi.repository.TaskRepository;
+import com.example.tasktrackerapi.repository.UserRepository;
+import com.example.tasktrackerapi.security.JwtUtil;
+import com.example.tasktrackerapi.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Makes another writer commit between a task being read and written back: the row is changed
+ * when the service asks for the current user, which it does for its access check right after
+ * loading the task. Not transactional, so that write really is concurrent.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class OptimisticLockingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @MockitoSpyBean
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private User admin;
+
+    private User assignee;
+
+    private Project project;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        admin = userRepository.save(User.builder()
+                .email("locking-admin")
+                .password("12345678")
+                .role(User.Role.ADMIN)
+                .build());
+        assignee = userRepository.save(User.builder()
+                .email("locking-assignee")
+                .password("12345678")
+                .role(User.Role.USER)
+                .build());
+        project = projectRepository.save(Project.builder()
+                .name("Locking")
+                .owner(admin)
+                .build());
+        task = taskRepository.save(Task.builder()
+                .title("Original")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.LOW)
+                .dueDate(LocalDate.now().plusDays(1))
+                .project(project)
+                .assignedUser(assignee)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteById(project.getId());
+        userRepository.deleteById(assignee.getId());
+        userRepository.deleteById(admin.getId());
+    }
+
+    @Test
+    void concurrentEdit_FailsTaskUpdateWithConflict() throws Exception {
+        editConcurrentlyAfterNextLoad();
+        TaskCreateDTO update = TaskCreateDTO.builder()
+                .title("Mine")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.LOW)
+                .dueDate(LocalDate.now().plusDays(1))
+                .projectId(project.getId())
+                .assignedUser(new UserResponseDTO(assignee.getEmail()))
+                .build();
+
+        mockMvc.perform(put("/api/tasks/{id}", task.getId())
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken(admin))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
+
+        assertEquals("Changed elsewhere", reloadTitle());
+    }
+
+    @Test
+    void concurrentEdit_StatusUpdateIsRetriedAndKeepsTheOtherEdit() throws Exception {
+        editConcurrentlyAfterNextLoad();
+
+        mockMvc.perform(put("/api/tasks/{id}/status", task.getId())
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken(admin))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"DONE\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DONE"))
+                .andExpect(jsonPath("$.title").value("Changed elsewhere"));
+
+        Task saved = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals(TaskStatus.DONE, saved.getStatus());
+        assertEquals("Changed elsewhere", saved.getTitle());
+        assertEquals(2L, saved.getVersion());
+    }
+
+    private void editConcurrentlyAfterNextLoad() {
+        // A transaction of its own, so the edit commits even though the caller's transaction is open.
+        TransactionTemplate otherWriter = new TransactionTemplate(transactionManager);
+        otherWriter.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        doAnswer(invocation -> {
+            otherWriter.executeWithoutResult(status -> jdbcTemplate.update(
+                    "update tasks set title = 'Changed elsewhere', version = version + 1 where id = ?", task.getId()));
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(userService).getCurrentUser();
+    }
+
+    private String reloadTitle() {
+        return jdbcTemplate.queryForObject("select title from tasks where id = ?", String.class, task.getId());
+    }
+}
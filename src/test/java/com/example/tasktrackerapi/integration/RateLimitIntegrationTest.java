@@ -0,0 +1,152 @@
+package com.example.tasktrackerapi.integration;
+
+import com.example.tasktrackerapi.config.RateLimitProperties;
+import com.example.tasktrackerapi.entity.User;
+import com.example.tasktrackerapi.repository.UserRepository;
+import com.example.tasktrackerapi.security.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Limits small enough to run out within a test and refill rates slow enough that they do not
+ * come back during it. User ids are never reused, so every test starts with full buckets.
+ */
+@SpringBootTest(properties = {
+        "tasktracker.rate-limit.roles.ANONYMOUS.capacity=2",
+        "tasktracker.rate-limit.roles.ANONYMOUS.tokens-per-second=0.001",
+        "tasktracker.rate-limit.roles.USER.capacity=3",
+        "tasktracker.rate-limit.roles.USER.tokens-per-second=0.001",
+        "tasktracker.rate-limit.roles.ADMIN.capacity=10",
+        "tasktracker.rate-limit.roles.ADMIN.tokens-per-second=0.001",
+        "tasktracker.rate-limit.endpoints[0].pattern=/api/tasks/export",
+        "tasktracker.rate-limit.endpoints[0].method=GET",
+        "tasktracker.rate-limit.endpoints[0].capacity=1",
+        "tasktracker.rate-limit.endpoints[0].tokens-per-second=0.001"})
+@Transactional
+@AutoConfigureMockMvc
+class RateLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private User user;
+
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("limited-user")
+                .password("12345678")
+                .role(User.Role.USER)
+                .build());
+        admin = userRepository.save(User.builder()
+                .email("limited-admin")
+                .password("12345678")
+                .role(User.Role.ADMIN)
+                .build());
+    }
+
+    @Test
+    void user_GetsTheLimitOfTheirRoleAnd429OnceItIsUsedUp() throws Exception {
+        for (int remaining = 2; remaining >= 0; remaining--) {
+            mockMvc.perform(as(get("/api/tasks"), user))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("RateLimit-Limit", "3"))
+                    .andExpect(header().string("RateLimit-Remaining", String.valueOf(remaining)));
+        }
+
+        mockMvc.perform(as(get("/api/tasks"), user))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("RateLimit-Remaining", "0"))
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.status").value(429));
+
+        mockMvc.perform(as(get("/api/tasks"), admin))
+                .andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Limit", "10"));
+    }
+
+    @Test
+    void anonymousRequests_AreLimitedPerClientAddress() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(from(get("/api/tasks"), "10.0.0.1"))
+                    .andExpect(status().isForbidden());
+        }
+        mockMvc.perform(from(get("/api/tasks"), "10.0.0.1"))
+                .andExpect(status().isTooManyRequests());
+
+        mockMvc.perform(from(get("/api/tasks"), "10.0.0.2"))
+                .andExpect(status().isForbidden())
+                .andExpect(header().string("RateLimit-Remaining", "1"));
+    }
+
+    @Test
+    void endpointLimit_AppliesOnTopOfTheRoleLimit() throws Exception {
+        mockMvc.perform(as(get("/api/tasks/export"), admin))
+                .andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Limit", "1"))
+                .andExpect(header().string("RateLimit-Remaining", "0"));
+
+        mockMvc.perform(as(get("/api/tasks/export"), admin))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(as(get("/api/tasks"), admin))
+                .andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Limit", "10"));
+    }
+
+    private MockHttpServletRequestBuilder as(MockHttpServletRequestBuilder request, User caller) {
+        return request.header("Authorization", "Bearer " + jwtUtil.generateToken(caller));
+    }
+
+    private static MockHttpServletRequestBuilder from(MockHttpServletRequestBuilder request, String address) {
+        return request.with(servletRequest -> {
+            servletRequest.setRemoteAddr(address);
+            return servletRequest;
+        });
+    }
+
+    @Test
+    void limits_MustBePositive() {
+        ApplicationContextRunner runner = new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ValidationAutoConfiguration.class))
+                .withUserConfiguration(RateLimitPropertiesConfig.class);
+
+        runner.withPropertyValues("tasktracker.rate-limit.roles.USER.capacity=3",
+                        "tasktracker.rate-limit.roles.USER.tokens-per-second=0")
+                .run(context -> assertThat(context).hasFailed());
+        runner.withPropertyValues("tasktracker.rate-limit.endpoints[0].pattern=/api/tasks/export",
+                        "tasktracker.rate-limit.endpoints[0].capacity=0",
+                        "tasktracker.rate-limit.endpoints[0].tokens-per-second=1")
+                .run(context -> assertThat(context).hasFailed());
+        runner.withPropertyValues("tasktracker.rate-limit.roles.USER.capacity=3",
+                        "tasktracker.rate-limit.roles.USER.tokens-per-second=0.5")
+                .run(context -> assertThat(context).hasNotFailed());
+    }
+
+    @EnableConfigurationProperties(RateLimitProperties.class)
+    static class RateLimitPropertiesConfig {
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.tasktrackerapi.integration;
+
+import com.example.tasktrackerapi.entity.Project;
+import com.example.tasktrackerapi.entity.Task;
+import com.example.tasktrackerapi.entity.TaskPriority;
+import com.example.tasktrackerapi.entity.TaskStatus;
+import com.example.tasktrackerapi.entity.User;
+import com.example.tasktrackerapi.repository.ProjectRepository;
+import com.example.tasktrackerapi.repository.ReactiveTaskRepository;
+import com.example.tasktrackerapi.repository.TaskRepository;
+import com.example.tasktrackerapi.repository.UserRepository;
+import com.example.tasktrackerapi.security.JwtUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The reactive reads over R2DBC. Not transactional: R2DBC uses connections of its own and would
+ * not see rows of an uncommitted test transaction.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReactiveTaskIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ReactiveTaskRepository reactiveTaskRepository;
+
+    private User admin;
+
+    private User member;
+
+    private Project project;
+
+    private Task assigned;
+
+    private Task unassigned;
+
+    @BeforeEach
+    void setUp() {
+        admin = userRepository.save(User.builder()
+                .email("reactive-admin")
+                .password("12345678")
+                .role(User.Role.ADMIN)
+                .build());
+        member = userRepository.save(User.builder()
+                .email("reactive-member")
+                .password("12345678")
+                .role(User.Role.USER)
+                .build());
+        project = projectRepository.save(Project.builder()
+                .name("Reactive")
+                .owner(admin)
+                .build());
+        assigned = taskRepository.save(Task.builder()
+                .title("Assigned")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.HIGH)
+                .dueDate(LocalDate.now().plusDays(1))
+                .project(project)
+                .assignedUser(member)
+                .build());
+        unassigned = taskRepository.save(Task.builder()
+                .title("Unassigned")
+                .status(TaskStatus.IN_PROGRESS)
+                .priority(TaskPriority.LOW)
+                .project(project)
+                .build());
+        taskRepository.save(Task.builder()
+                .title("Finished")
+                .status(TaskStatus.DONE)
+                .priority(TaskPriority.LOW)
+                .project(project)
+                .assignedUser(member)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteById(project.getId());
+        userRepository.deleteById(member.getId());
+        userRepository.deleteById(admin.getId());
+    }
+
+    @Test
+    void getTasks_WalksVisibleFilteredTasksWithTheCursor() throws Exception {
+        List<String> titles = new ArrayList<>();
+        String cursor = "";
+        do {
+            JsonNode page = readJson(perform(get("/api/reactive/tasks")
+                    .param("after", cursor)
+                    .param("size", "1")
+                    .param("projectId", project.getId().toString())
+                    .param("status", "TODO,IN_PROGRESS"), admin)
+                    .andExpect(status().isOk()));
+            page.get("content").forEach(task -> titles.add(task.get("title").asText()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+        } while (cursor != null);
+
+        assertEquals(List.of("Assigned", "Unassigned"), titles);
+    }
+
+    @Test
+    void getTasks_UsersOnlySeeTheirOwnTasks() throws Exception {
+        perform(get("/api/reactive/tasks").param("projectId", project.getId().toString()), member)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].title").value("Assigned"))
+                .andExpect(jsonPath("$.content[0].assignedUser.email").value("reactive-member"))
+                .andExpect(jsonPath("$.content[1].title").value("Finished"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void getTasks_RejectsSortAndInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/reactive/tasks")
+                        .param("sort", "title")
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken(admin)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/reactive/tasks")
+                        .param("after", "not-a-cursor")
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken(admin)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getTaskById_AppliesTheSameAccessRules() throws Exception {
+        perform(get("/api/reactive/tasks/{id}", assigned.getId()), member)
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.title").value("Assigned"))
+                .andExpect(jsonPath("$.projectId").value(project.getId()));
+        perform(get("/api/reactive/tasks/{id}", unassigned.getId()), member)
+                .andExpect(status().isForbidden());
+        perform(get("/api/reactive/tasks/{id}", Long.MAX_VALUE), admin)
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getTasksByAssignedUser() throws Exception {
+        perform(get("/api/reactive/tasks/user/{userId}", member.getId()).param("status", "DONE"), admin)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("Finished"));
+        perform(get("/api/reactive/tasks/user/{userId}", Long.MAX_VALUE), admin)
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void queriesRunOnTheDatabaseScheduler() {
+        // r2dbc-h2 emits rows on the thread that ran the statement
+        String queryThread = reactiveTaskRepository.findById(assigned.getId())
+                .map(row -> Thread.currentThread().getName())
+                .block();
+
+        assertTrue(queryThread.startsWith("tasktracker-r2dbc"), queryThread);
+    }
+
+    @Test
+    void requestsWithoutTokenAreRejectedBeforeAnyQuery() throws Exception {
+        mockMvc.perform(get("/api/reactive/tasks"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isForbidden());
+    }
+
+    private ResultActions perform(MockHttpServletRequestBuilder request, User caller) throws Exception {
+        MvcResult started = mockMvc.perform(request.header("Authorization", "Bearer " + jwtUtil.generateToken(caller)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+
+    private JsonNode readJson(ResultActions result) throws Exception {
+        return objectMapper.readTree(result.andReturn().getResponse().getContentAsString());
+    }
+}
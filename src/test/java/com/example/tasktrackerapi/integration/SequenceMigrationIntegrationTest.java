@@ -0,0 +1,73 @@
+package com.example.tasktrackerapi.integration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Migrates a database that already holds rows from before the switch to sequences, and checks
+ * that the first block of ids Hibernate's pooled optimizer takes from each sequence lies above
+ * the existing ids.
+ */
+class SequenceMigrationIntegrationTest {
+
+    /** The allocationSize of the entities' sequence generators. */
+    private static final int ALLOCATION_SIZE = 50;
+
+    private DriverManagerDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migration-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void migrate_StartsSequencesAboveExistingRows() {
+        migrate("1");
+        jdbcTemplate.update("insert into users (id, email, password) values (71, 'owner', 'x')");
+        jdbcTemplate.update("insert into projects (id, name, owner_id) values (120, 'project', 71)");
+        jdbcTemplate.update("insert into tasks (id, title, status, priority, project_id, create_date) "
+                + "values (7, 'task', 'TODO', 'LOW', 120, current_timestamp)");
+
+        migrate(null);
+
+        assertFirstBlockAbove("users_seq", 71);
+        assertFirstBlockAbove("projects_seq", 120);
+        assertFirstBlockAbove("tasks_seq", 7);
+    }
+
+    @Test
+    void migrate_EmptyDatabaseStartsAtOne() {
+        migrate(null);
+
+        assertEquals(1, firstIdOf("tasks_seq"));
+    }
+
+    private void migrate(String target) {
+        var configuration = Flyway.configure().dataSource(dataSource);
+        if (target != null) {
+            configuration.target(target);
+        }
+        configuration.load().migrate();
+    }
+
+    private void assertFirstBlockAbove(String sequence, long maxId) {
+        assertEquals(maxId + 1, firstIdOf(sequence), sequence);
+    }
+
+    /** The pooled optimizer treats the first value it reads as the top of a block. */
+    private long firstIdOf(String sequence) {
+        Long value = jdbcTemplate.queryForObject("select next value for " + sequence, Long.class);
+        return value - ALLOCATION_SIZE + 1;
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.tasktrackerapi.integration;
+
+import com.example.tasktrackerapi.dtos.UpdateTaskStatusDTO;
+import com.example.tasktrackerapi.entity.Project;
+import com.example.tasktrackerapi.entity.Task;
+import com.example.tasktrackerapi.entity.TaskPriority;
+import com.example.tasktrackerapi.entity.TaskStatus;
+import com.example.tasktrackerapi.entity.User;
+import com.example.tasktrackerapi.repository.ProjectRepository;
+import com.example.tasktrackerapi.repository.TaskRepository;
+import com.example.tasktrackerapi.repository.UserRepository;
+import com.example.tasktrackerapi.security.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the number of SQL statements each read endpoint issues, so a mapping change that
+ * reintroduces lazy loading per row shows up as a failing test rather than as latency.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+@AutoConfigureMockMvc
+class StatementCountIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private String adminToken;
+
+    private User admin;
+
+    private Project project;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        admin = userRepository.save(User.builder()
+                .email("statements-admin")
+                .password("12345678")
+                .role(User.Role.ADMIN)
+                .build());
+        User assignee = userRepository.save(User.builder()
+                .email("statements-user")
+                .password("12345678")
+                .role(User.Role.USER)
+                .build());
+
+        project = new Project();
+        project.setName("Statements");
+        project.setDescription("statement counting");
+        project.setOwner(admin);
+        project.setTasks(new ArrayList<>());
+        project = projectRepository.save(project);
+
+        for (int i = 0; i < 5; i++) {
+            Task saved = taskRepository.save(Task.builder()
+                    .title("statements " + i)
+                    .description("desc")
+                    .status(TaskStatus.TODO)
+                    .priority(TaskPriority.MEDIUM)
+                    .dueDate(LocalDate.now().plusDays(i))
+                    .project(project)
+                    .assignedUser(assignee)
+                    .build());
+            if (task == null) {
+                task = saved;
+            }
+        }
+
+        adminToken = jwtUtil.generateToken(admin);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void getTaskById_UsesOneStatementAfterTheTag() throws Exception {
+        mockMvc.perform(get("/api/tasks/" + task.getId())
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assignedUser.email").value("statements-user"));
+
+        // one for the ETag, one for the task with its project, owner and assignee
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getTasksPage_UsesRowAndCountStatementsOnly() throws Exception {
+        mockMvc.perform(get("/api/tasks")
+                        .param("size", "2")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2));
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getTasksAfter_UsesOneStatement() throws Exception {
+        mockMvc.perform(get("/api/tasks")
+                        .param("after", "")
+                        .param("size", "2")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getProjectById_LoadsOwnerAndTasksInOneStatement() throws Exception {
+        mockMvc.perform(get("/api/projects/" + project.getId())
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks.length()").value(5));
+
+        // one aggregate for the ETag, one for the project with its owner, tasks and assignees
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getProjectsWithTasks_DoesNotGrowWithProjects() throws Exception {
+        mockMvc.perform(get("/api/projects")
+                        .param("include", "tasks")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+
+        // one page of projects with owners, one capped task query; the page is short so no count
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void updateTaskStatus_LoadsOnceAndUpdatesOnce() throws Exception {
+        UpdateTaskStatusDTO dto = new UpdateTaskStatusDTO(TaskStatus.DONE);
+
+        mockMvc.perform(put("/api/tasks/" + task.getId() + "/status")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new ObjectMapper().writeValueAsString(dto)))
+                .andExpect(status().isOk());
+        entityManager.flush();
+
+        // plus one for the ETag of the response
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+}
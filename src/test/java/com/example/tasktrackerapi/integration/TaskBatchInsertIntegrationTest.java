@@ -0,0 +1,121 @@
+package com.example.tasktrackerapi.integration;
+
+import com.example.tasktrackerapi.entity.Project;
+import com.example.tasktrackerapi.entity.Task;
+import com.example.tasktrackerapi.entity.TaskPriority;
+import com.example.tasktrackerapi.entity.TaskStatus;
+import com.example.tasktrackerapi.repository.ProjectRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that task inserts reach the database in JDBC batches. Run with {@code -Dbenchmark=true}
+ * to also print the rows per second with batching on and off.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskBatchInsertIntegrationTest {
+
+    private static final int BENCHMARK_ROWS = 5_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    private Statistics statistics;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        project = projectRepository.findByName("Project 1").orElseThrow();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("delete from Task t where t.title like 'batch %'")
+                .executeUpdate());
+    }
+
+    @Test
+    void insertingManyTasks_UsesOneStatementPerBatch() {
+        int rows = batchSize * 3;
+        statistics.clear();
+
+        insertTasks(rows, batchSize);
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(rows);
+        // three insert batches plus a handful of pooled sequence calls
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkBatchedInserts() {
+        insertTasks(BENCHMARK_ROWS, batchSize); // warm-up
+
+        long unbatched = timeInserts(1);
+        long batched = timeInserts(batchSize);
+
+        System.out.printf("Inserted %d tasks: unbatched %.0f rows/s, batch size %d %.0f rows/s%n",
+                BENCHMARK_ROWS, rowsPerSecond(unbatched), batchSize, rowsPerSecond(batched));
+    }
+
+    private long timeInserts(int jdbcBatchSize) {
+        long start = System.nanoTime();
+        insertTasks(BENCHMARK_ROWS, jdbcBatchSize);
+        return System.nanoTime() - start;
+    }
+
+    private void insertTasks(int rows, int jdbcBatchSize) {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            Project managedProject = entityManager.getReference(Project.class, project.getId());
+            for (int i = 0; i < rows; i++) {
+                entityManager.persist(Task.builder()
+                        .title("batch " + i)
+                        .status(TaskStatus.TODO)
+                        .priority(TaskPriority.LOW)
+                        .dueDate(LocalDate.now())
+                        .project(managedProject)
+                        .build());
+                if ((i + 1) % batchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    managedProject = entityManager.getReference(Project.class, project.getId());
+                }
+            }
+        });
+    }
+
+    private static double rowsPerSecond(long nanos) {
+        return BENCHMARK_ROWS / (nanos / 1_000_000_000.0);
+    }
+}
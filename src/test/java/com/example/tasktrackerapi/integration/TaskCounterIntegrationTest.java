@@ -0,0 +1,203 @@
+package com.example.tasktrackerapi.integration;
+
+import com.example.tasktrackerapi.dtos.BulkStatusUpdateDTO;
+import com.example.tasktrackerapi.dtos.TaskCreateDTO;
+import com.example.tasktrackerapi.dtos.UserResponseDTO;
+import com.example.tasktrackerapi.entity.Project;
+import com.example.tasktrackerapi.entity.Task;
+import com.example.tasktrackerapi.entity.TaskPriority;
+import com.example.tasktrackerapi.entity.TaskStatus;
+import com.example.tasktrackerapi.entity.User;
+import com.example.tasktrackerapi.repository.ProjectRepository;
+import com.example.tasktrackerapi.repository.TaskCount;
+import com.example.tasktrackerapi.repository.TaskRepository;
+import com.example.tasktrackerapi.repository.UserRepository;
+import com.example.tasktrackerapi.security.JwtUtil;
+import com.example.tasktrackerapi.service.TaskCounterService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@Transactional
+@AutoConfigureMockMvc
+class TaskCounterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCounterService taskCounterService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private User owner;
+
+    private User member;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .email("counter-owner")
+                .password("12345678")
+                .role(User.Role.USER)
+                .build());
+        member = userRepository.save(User.builder()
+                .email("counter-member")
+                .password("12345678")
+                .role(User.Role.USER)
+                .build());
+        project = projectRepository.save(Project.builder()
+                .name("Counted")
+                .owner(owner)
+                .build());
+    }
+
+    @Test
+    void writesThroughApi_KeepStatsCurrent() throws Exception {
+        long first = createTask("First", TaskPriority.HIGH);
+        long second = createTask("Second", TaskPriority.LOW);
+
+        mockMvc.perform(put("/api/tasks/{id}/status", first)
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"DONE\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/tasks/{id}", second)
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken(owner)))
+                .andExpect(status().isNoContent());
+
+        getStats(owner, "projectId", project.getId())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.byStatus.DONE").value(1))
+                .andExpect(jsonPath("$.byStatus.TODO").value(0))
+                .andExpect(jsonPath("$.byPriority.HIGH").value(1))
+                .andExpect(jsonPath("$.byPriority.LOW").value(0))
+                .andExpect(jsonPath("$.byStatusAndPriority.DONE.HIGH").value(1));
+        getStats(member, "assigneeId", member.getId())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1));
+    }
+
+    @Test
+    void bulkStatusUpdate_MovesCounts() throws Exception {
+        createTask("First", TaskPriority.HIGH);
+        createTask("Second", TaskPriority.LOW);
+
+        mockMvc.perform(put("/api/tasks/bulk/status")
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(BulkStatusUpdateDTO.builder()
+                                .projectId(project.getId())
+                                .status(TaskStatus.IN_PROGRESS)
+                                .build())))
+                .andExpect(jsonPath("$.updatedCount").value(2));
+
+        getStats(owner, "projectId", project.getId())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.byStatus.TODO").value(0))
+                .andExpect(jsonPath("$.byStatus.IN_PROGRESS").value(2));
+    }
+
+    @Test
+    void mergeDeltas_FoldsDeltasIntoCountersWithoutChangingStats() throws Exception {
+        createTask("First", TaskPriority.HIGH);
+        createTask("Second", TaskPriority.HIGH);
+
+        taskCounterService.mergeDeltas();
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "select count(*) from task_counter_deltas where project_id = ?", Long.class, project.getId()));
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "select task_count from task_counters where project_id = ?", Long.class, project.getId()));
+        getStats(owner, "projectId", project.getId())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.byStatusAndPriority.TODO.HIGH").value(2));
+    }
+
+    @Test
+    void reconcile_ReportsAndCorrectsTasksWrittenOutsideTheServices() throws Exception {
+        taskRepository.saveAndFlush(Task.builder()
+                .title("Unrecorded")
+                .status(TaskStatus.OPEN)
+                .priority(TaskPriority.MEDIUM)
+                .project(project)
+                .build());
+        getStats(owner, "projectId", project.getId()).andExpect(jsonPath("$.total").value(0));
+
+        List<TaskCount> drift = taskCounterService.reconcile().stream()
+                .filter(count -> count.getProjectId().equals(project.getId()))
+                .toList();
+
+        assertEquals(List.of(new TaskCount(project.getId(), null, TaskStatus.OPEN, TaskPriority.MEDIUM, 1)), drift);
+        getStats(owner, "projectId", project.getId())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.byStatus.OPEN").value(1));
+    }
+
+    @Test
+    void stats_OfAnotherUsersProjectAreForbidden() throws Exception {
+        getStats(member, "projectId", project.getId()).andExpect(status().isForbidden());
+    }
+
+    private long createTask(String title, TaskPriority priority) throws Exception {
+        TaskCreateDTO task = TaskCreateDTO.builder()
+                .title(title)
+                .status(TaskStatus.TODO)
+                .priority(priority)
+                .dueDate(LocalDate.now().plusDays(1))
+                .projectId(project.getId())
+                .assignedUser(new UserResponseDTO(member.getEmail()))
+                .build();
+        mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isCreated());
+        return taskRepository.findByTitle(title).orElseThrow().getId();
+    }
+
+    private ResultActions getStats(User caller, String param, Long value) throws Exception {
+        return mockMvc.perform(get("/api/tasks/stats")
+                .param(param, value.toString())
+                .header("Authorization", "Bearer " + jwtUtil.generateToken(caller)));
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.tasktrackerapi.integration;
+
+import com.example.tasktrackerapi.entity.Project;
+import com.example.tasktrackerapi.entity.Task;
+import com.example.tasktrackerapi.entity.TaskPriority;
+import com.example.tasktrackerapi.entity.TaskStatus;
+import com.example.tasktrackerapi.entity.User;
+import com.example.tasktrackerapi.repository.ProjectRepository;
+import com.example.tasktrackerapi.repository.TaskRepository;
+import com.example.tasktrackerapi.repository.UserRepository;
+import com.example.tasktrackerapi.security.JwtUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Reads a task through the API repeatedly and checks that the repeats run no SQL, are still
+ * authorized per caller and see every committed change. Not transactional: reads inside a
+ * transaction bypass the task cache.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class TaskDetailCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private User admin;
+
+    private User outsider;
+
+    private Project project;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        admin = userRepository.save(User.builder()
+                .email("detail-cache-admin")
+                .password("12345678")
+                .role(User.Role.ADMIN)
+                .build());
+        outsider = userRepository.save(User.builder()
+                .email("detail-cache-outsider")
+                .password("12345678")
+                .role(User.Role.USER)
+                .build());
+        project = projectRepository.save(Project.builder()
+                .name("Detail cache")
+                .owner(admin)
+                .build());
+        task = taskRepository.save(Task.builder()
+                .title("Cached task")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.LOW)
+                .dueDate(LocalDate.now().plusDays(1))
+                .project(project)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteById(project.getId());
+        userRepository.deleteById(outsider.getId());
+        userRepository.deleteById(admin.getId());
+    }
+
+    @Test
+    void repeatedRead_RunsNoSql() throws Exception {
+        getTask(admin).andExpect(status().isOk());
+        statistics.clear();
+
+        getTask(admin)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Cached task"));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void cachedTask_IsStillAuthorizedPerCaller() throws Exception {
+        getTask(admin).andExpect(status().isOk());
+
+        getTask(outsider).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void statusUpdate_IsVisibleOnNextRead() throws Exception {
+        getTask(admin).andExpect(jsonPath("$.status").value("TODO"));
+
+        mockMvc.perform(put("/api/tasks/{id}/status", task.getId())
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken(admin))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"DONE\"}"))
+                .andExpect(status().isOk());
+
+        getTask(admin).andExpect(jsonPath("$.status").value("DONE"));
+    }
+
+    @Test
+    void deletedTask_IsNotServedFromCache() throws Exception {
+        getTask(admin).andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/tasks/{id}", task.getId())
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken(admin)))
+                .andExpect(status().is2xxSuccessful());
+
+        getTask(admin).andExpect(status().isNotFound());
+    }
+
+    private ResultActions getTask(User caller) throws Exception {
+        return mockMvc.perform(get("/api/tasks/{id}", task.getId())
+                .header("Authorization", "Bearer " + jwtUtil.generateToken(caller)));
+    }
+}
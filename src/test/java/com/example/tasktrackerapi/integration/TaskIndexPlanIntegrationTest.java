@@ -0,0 +1,168 @@
+package com.example.tasktrackerapi.integration;
+
+import com.example.tasktrackerapi.dtos.TaskFilterDTO;
+import com.example.tasktrackerapi.entity.TaskPriority;
+import com.example.tasktrackerapi.entity.TaskStatus;
+import com.example.tasktrackerapi.entity.User;
+import com.example.tasktrackerapi.repository.TaskRepository;
+import com.example.tasktrackerapi.repository.TaskSpecifications;
+import com.example.tasktrackerapi.repository.UserRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the task listing query with the filters, captures the SQL Hibernate sends and asks H2
+ * for its plan, so a dropped or reordered index in the migrations (or a filter compiled into
+ * a shape the indexes cannot serve) fails here instead of turning listings into table scans.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.tasktrackerapi.integration.TaskIndexPlanIntegrationTest$RecordingStatementInspector")
+class TaskIndexPlanIntegrationTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    private static final String TABLE_SCAN = "tableScan";
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.findByEmail("giorgi").orElseThrow();
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void statusFilter_UsesStatusPriorityIndex() {
+        findRows(TaskFilterDTO.builder().status(List.of(TaskStatus.TODO)).build());
+
+        assertThat(explainLastTaskSelect(TaskStatus.TODO.name())).contains("IDX_TASKS_STATUS_PRIORITY");
+    }
+
+    @Test
+    void statusAndPriorityFilter_UsesStatusPriorityIndex() {
+        findRows(TaskFilterDTO.builder().status(List.of(TaskStatus.TODO)).priority(List.of(TaskPriority.HIGH)).build());
+
+        assertThat(explainLastTaskSelect(TaskStatus.TODO.name(), TaskPriority.HIGH.name()))
+                .contains("IDX_TASKS_STATUS_PRIORITY");
+    }
+
+    @Test
+    void multipleStatuses_UseStatusPriorityIndex() {
+        findRows(TaskFilterDTO.builder().status(List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS)).build());
+
+        assertThat(explainLastTaskSelect(TaskStatus.TODO.name(), TaskStatus.IN_PROGRESS.name()))
+                .contains("IDX_TASKS_STATUS_PRIORITY");
+    }
+
+    @Test
+    void assigneeFilter_UsesAnAssigneeIndex() {
+        findRows(TaskFilterDTO.builder().assigneeId(user.getId()).build());
+
+        assertThat(explainLastTaskSelect(user.getId())).doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    void assigneeAndStatusFilter_UsesAssigneeIndex() {
+        findRows(TaskFilterDTO.builder().assigneeId(user.getId()).status(List.of(TaskStatus.TODO)).build());
+
+        assertThat(explainLastTaskSelect(user.getId(), TaskStatus.TODO.name()))
+                .contains("IDX_TASKS_ASSIGNEE_STATUS_PRIORITY");
+    }
+
+    @Test
+    void assigneeAndPriorityFilter_UsesAnAssigneeIndex() {
+        findRows(TaskFilterDTO.builder().assigneeId(user.getId()).priority(List.of(TaskPriority.HIGH)).build());
+
+        // priority is not a prefix column here, so the foreign key index is just as good
+        assertThat(explainLastTaskSelect(user.getId(), TaskPriority.HIGH.name())).doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    void assigneeStatusAndPriorityFilter_UsesAssigneeIndex() {
+        findRows(TaskFilterDTO.builder()
+                .assigneeId(user.getId())
+                .status(List.of(TaskStatus.TODO))
+                .priority(List.of(TaskPriority.HIGH))
+                .build());
+
+        assertThat(explainLastTaskSelect(user.getId(), TaskStatus.TODO.name(), TaskPriority.HIGH.name()))
+                .contains("IDX_TASKS_ASSIGNEE_STATUS_PRIORITY");
+    }
+
+    @Test
+    void projectAndStatusFilter_UsesProjectStatusIndex() {
+        findRows(TaskFilterDTO.builder().projectId(List.of(1L)).status(List.of(TaskStatus.TODO)).build());
+
+        assertThat(explainLastTaskSelect(1L, TaskStatus.TODO.name())).contains("IDX_TASKS_PROJECT_STATUS");
+    }
+
+    @Test
+    void dueDateRange_UsesDueDateIndex() {
+        LocalDate today = LocalDate.now();
+        findRows(TaskFilterDTO.builder().dueFrom(today).dueTo(today.plusDays(7)).build());
+
+        assertThat(explainLastTaskSelect(today, today.plusDays(7))).contains("IDX_TASKS_DUE_DATE");
+    }
+
+    private void findRows(TaskFilterDTO filter) {
+        taskRepository.findRows(TaskSpecifications.matching(filter), PageRequest.of(0, PAGE_SIZE));
+    }
+
+    private String explainLastTaskSelect(Object... filterValues) {
+        String sql = RecordingStatementInspector.STATEMENTS.stream()
+                .filter(s -> s.startsWith("select") && !s.startsWith("select count"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+        return explain(sql, filterValues);
+    }
+
+    // Binds the filter values in order and the page size to whatever placeholders remain.
+    private String explain(String sql, Object... filterValues) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+                for (int i = 0; i < parameterCount; i++) {
+                    statement.setObject(i + 1, i < filterValues.length ? filterValues[i] : PAGE_SIZE);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.example.tasktrackerapi.repository.TaskRepository;
 import com.example.tasktrackerapi.repository.UserRepository;
 import com.example.tasktrackerapi.security.JwtUtil;
 import com.example.tasktrackerapi.service.TaskService;
+import com.example.tasktrackerapi.service.UserService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,11 +24,15 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import com.fasterxml.jackson.core.type.TypeReference;
 
@@ -41,6 +46,12 @@ public class TaskIntegrationTest {
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtUtil sharedJwtUtil;
+
     @Autowired
     private TaskRepository taskRepository;
 
@@ -166,6 +177,165 @@ public class TaskIntegrationTest {
         assertEquals(2, tasks.size());
     }
 
+    @Test
+    void testGetAllTasks_OnlyVisibleTasksArePagedAndCounted() throws Exception {
+        User viewer = userRepository.save(User.builder()
+                .email("viewer")
+                .password("12345678")
+                .role(User.Role.USER)
+                .build());
+        for (int i = 0; i < 3; i++) {
+            taskRepository.save(Task.builder()
+                    .title("hidden" + i)
+                    .status(TaskStatus.TODO)
+                    .priority(TaskPriority.LOW)
+                    .project(project1)
+                    .assignedUser(user1)
+                    .build());
+            taskRepository.save(Task.builder()
+                    .title("visible" + i)
+                    .status(TaskStatus.TODO)
+                    .priority(TaskPriority.LOW)
+                    .project(project1)
+                    .assignedUser(viewer)
+                    .build());
+        }
+
+        String response = mockMvc.perform(get("/api/tasks?page=0&size=2")
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken("viewer")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode node = objectMapper.readTree(response);
+        assertEquals(2, node.get("content").size());
+        assertEquals(3, node.get("page").get("totalElements").asInt());
+        node.get("content").forEach(task -> assertTrue(task.get("title").asText().startsWith("visible")));
+    }
+
+    @Test
+    void testGetAllTasks_CursorWalksEveryTaskOnceWhileRowsAreInserted() throws Exception {
+        Set<String> seen = new HashSet<>();
+        String cursor = "";
+        boolean inserted = false;
+
+        do {
+            String response = mockMvc.perform(get("/api/tasks")
+                            .param("after", cursor)
+                            .param("size", "1")
+                            .header("Authorization", "Bearer " + jwtToken))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode node = objectMapper.readTree(response);
+            node.get("content").forEach(task -> assertTrue(seen.add(task.get("title").asText())));
+            cursor = node.get("nextCursor").isNull() ? null : node.get("nextCursor").asText();
+
+            if (!inserted) {
+                taskRepository.save(Task.builder()
+                        .title("insertedDuringScroll")
+                        .status(TaskStatus.TODO)
+                        .priority(TaskPriority.LOW)
+                        .project(project1)
+                        .build());
+                inserted = true;
+            }
+        } while (cursor != null);
+
+        assertEquals(Set.of("Task 1", "testTask", "insertedDuringScroll"), seen);
+    }
+
+    @Test
+    void testGetAllTasks_Filtered() throws Exception {
+        Project project2 = projectRepository.save(Project.builder()
+                .name("filtered")
+                .owner(user1)
+                .build());
+        taskRepository.save(Task.builder().title("lateTodo").status(TaskStatus.TODO).priority(TaskPriority.LOW)
+                .dueDate(LocalDate.now().minusDays(2)).project(project2).build());
+        taskRepository.save(Task.builder().title("lateDone").status(TaskStatus.DONE).priority(TaskPriority.HIGH)
+                .dueDate(LocalDate.now().minusDays(2)).project(project2).build());
+        taskRepository.save(Task.builder().title("soonInProgress").status(TaskStatus.IN_PROGRESS).priority(TaskPriority.HIGH)
+                .dueDate(LocalDate.now().plusDays(3)).project(project2).build());
+
+        mockMvc.perform(get("/api/tasks")
+                        .param("projectId", project2.getId().toString())
+                        .param("status", "TODO,IN_PROGRESS")
+                        .param("sort", "-dueDate")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].title").value("soonInProgress"))
+                .andExpect(jsonPath("$.content[1].title").value("lateTodo"));
+
+        mockMvc.perform(get("/api/tasks")
+                        .param("projectId", project2.getId().toString())
+                        .param("overdue", "true")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("lateTodo"));
+
+        mockMvc.perform(get("/api/tasks")
+                        .param("projectId", project2.getId().toString())
+                        .param("dueFrom", LocalDate.now().toString())
+                        .param("dueTo", LocalDate.now().plusDays(7).toString())
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("soonInProgress"));
+
+        mockMvc.perform(get("/api/tasks")
+                        .param("sort", "password")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetAllTasks_InvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/tasks")
+                        .param("after", "not-a-cursor")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetTaskById_WithClaimsToken() throws Exception {
+        mockMvc.perform(get("/api/tasks/" + task1.getId())
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken(user1)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testRepeatedTokenIsVerifiedOnce() throws Exception {
+        String token = sharedJwtUtil.generateToken(user1);
+        long misses = sharedJwtUtil.getCacheMissCount();
+        long hits = sharedJwtUtil.getCacheHitCount();
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/tasks/" + task1.getId())
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk());
+        }
+
+        assertEquals(misses + 1, sharedJwtUtil.getCacheMissCount());
+        assertEquals(hits + 2, sharedJwtUtil.getCacheHitCount());
+    }
+
+    @Test
+    void testClaimsTokenRejectedAfterRoleChange() throws Exception {
+        String token = jwtUtil.generateToken(user2);
+
+        user2.setRole(User.Role.USER);
+        userService.saveUser(user2);
+
+        mockMvc.perform(get("/api/tasks/" + task1.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+        // a token issued with the new role, likely within the same second, is accepted
+        mockMvc.perform(get("/api/tasks")
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken(user2)))
+                .andExpect(status().isOk());
+    }
+
     @Test
     void testGetTaskById() throws Exception {
         String response = mockMvc.perform(get("/api/tasks/" + task1.getId())
@@ -300,4 +470,239 @@ public class TaskIntegrationTest {
                 .isEqualTo(taskDTO);
 
     }
+
+    @Test
+    void testCreateTasksBatch_ReportsFailedItems() throws Exception {
+        TaskCreateDTO second = TaskCreateDTO.builder()
+                .title("batchTask2")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.LOW)
+                .projectId(project1.getId())
+                .assignedUser(userMapper.toDto(user2))
+                .build();
+        TaskCreateDTO missingProject = TaskCreateDTO.builder()
+                .title("batchTask3")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.LOW)
+                .projectId(-1L)
+                .build();
+
+        mockMvc.perform(post("/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .content(objectMapper.writeValueAsString(List.of(taskCreateDTO, second, missingProject))))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.createdCount").value(2))
+                .andExpect(jsonPath("$.failedCount").value(1))
+                .andExpect(jsonPath("$.items[1].task.assignedUser.email").value("user123"))
+                .andExpect(jsonPath("$.items[2].error").value("Project not found with id -1"));
+
+        assertTrue(taskRepository.findByTitle("batchTask2").isPresent());
+        assertFalse(taskRepository.findByTitle("batchTask3").isPresent());
+    }
+
+    @Test
+    void testCreateTasksBatch_AllCreated() throws Exception {
+        mockMvc.perform(post("/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .content(objectMapper.writeValueAsString(List.of(taskCreateDTO))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.createdCount").value(1));
+    }
+
+    @Test
+    void testBulkUpdateStatus_OnlyTouchesAccessibleTasks() throws Exception {
+        User outsider = userRepository.save(User.builder()
+                .email("outsider")
+                .password("12345678")
+                .role(User.Role.USER)
+                .build());
+        Task outsiderTask = taskRepository.save(Task.builder()
+                .title("outsiderTask")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.LOW)
+                .project(project1)
+                .assignedUser(outsider)
+                .build());
+        LocalDateTime before = task1.getUpdateDate();
+
+        mockMvc.perform(put("/api/tasks/bulk/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + sharedJwtUtil.generateToken(outsider))
+                        .content(objectMapper.writeValueAsString(BulkStatusUpdateDTO.builder()
+                                .taskIds(List.of(task1.getId(), outsiderTask.getId()))
+                                .status(TaskStatus.IN_PROGRESS)
+                                .build())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedCount").value(1));
+
+        assertEquals(TaskStatus.IN_PROGRESS, taskRepository.findById(outsiderTask.getId()).orElseThrow().getStatus());
+        Task untouched = taskRepository.findById(task1.getId()).orElseThrow();
+        assertEquals(TaskStatus.DONE, untouched.getStatus());
+        assertEquals(before, untouched.getUpdateDate());
+    }
+
+    @Test
+    void testBulkUpdateStatus_ByProjectAndCurrentStatus() throws Exception {
+        taskRepository.save(Task.builder()
+                .title("todoTask")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.LOW)
+                .project(project1)
+                .build());
+
+        mockMvc.perform(put("/api/tasks/bulk/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .content(objectMapper.writeValueAsString(BulkStatusUpdateDTO.builder()
+                                .projectId(project1.getId())
+                                .currentStatus(TaskStatus.TODO)
+                                .status(TaskStatus.IN_PROGRESS)
+                                .build())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedCount").value(1));
+
+        Task updated = taskRepository.findByTitle("todoTask").orElseThrow();
+        assertEquals(TaskStatus.IN_PROGRESS, updated.getStatus());
+        assertTrue(updated.getUpdateDate().isAfter(updated.getCreateDate()));
+        assertEquals(1L, updated.getVersion(), "bulk updates must bump the version like entity updates");
+        assertEquals(TaskStatus.DONE, taskRepository.findById(task1.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testBulkReassign_MovesOnlyOpenTasks() throws Exception {
+        taskRepository.save(Task.builder()
+                .title("openTask")
+                .status(TaskStatus.IN_PROGRESS)
+                .priority(TaskPriority.LOW)
+                .project(project1)
+                .assignedUser(user1)
+                .build());
+
+        mockMvc.perform(put("/api/tasks/bulk/reassign")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .content(objectMapper.writeValueAsString(new BulkReassignDTO(user1.getId(), user2.getId()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedCount").value(1));
+
+        assertEquals(user2.getId(), taskRepository.findByTitle("openTask").orElseThrow().getAssignedUser().getId());
+        assertEquals(user1.getId(), taskRepository.findById(task1.getId()).orElseThrow().getAssignedUser().getId());
+    }
+
+    @Test
+    void testExportTasks_StreamsVisibleTasksAsNdjson() throws Exception {
+        User outsider = userRepository.save(User.builder()
+                .email("exporter")
+                .password("12345678")
+                .role(User.Role.USER)
+                .build());
+        taskRepository.save(Task.builder()
+                .title("exportedTask")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.LOW)
+                .project(project1)
+                .assignedUser(outsider)
+                .build());
+        taskRepository.save(Task.builder()
+                .title("filteredOutTask")
+                .status(TaskStatus.DONE)
+                .priority(TaskPriority.LOW)
+                .project(project1)
+                .assignedUser(outsider)
+                .build());
+
+        String body = mockMvc.perform(get("/api/tasks/export")
+                        .param("status", "TODO")
+                        .header("Authorization", "Bearer " + sharedJwtUtil.generateToken(outsider)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson;charset=UTF-8"))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = body.lines().toList();
+        assertEquals(1, lines.size());
+        TaskDTO exported = objectMapper.readValue(lines.get(0), TaskDTO.class);
+        assertEquals("exportedTask", exported.getTitle());
+        assertEquals("exporter", exported.getAssignedUser().getEmail());
+    }
+
+    @Test
+    void testImportTasks_Csv() throws Exception {
+        String csv = "title,status,priority,projectId,assigneeEmail\n" +
+                "importedTask,TODO,LOW," + project1.getId() + ",user123\n" +
+                "orphanTask,TODO,LOW,-1,\n";
+
+        mockMvc.perform(post("/api/tasks/import")
+                        .contentType("text/csv")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processedCount").value(2))
+                .andExpect(jsonPath("$.createdCount").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].message").value("Project not found with id -1"));
+
+        Task imported = taskRepository.findByTitle("importedTask").orElseThrow();
+        assertEquals(user2.getId(), imported.getAssignedUser().getId());
+    }
+
+    @Test
+    void testImportTasks_StreamsProgress() throws Exception {
+        String ndjson = "{\"title\":\"streamedTask\",\"status\":\"TODO\",\"priority\":\"LOW\",\"projectId\":"
+                + project1.getId() + "}\nnull\n";
+
+        String body = mockMvc.perform(post("/api/tasks/import")
+                        .contentType("application/x-ndjson")
+                        .accept("application/x-ndjson")
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson;charset=UTF-8"))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = body.lines().toList();
+        assertEquals(2, lines.size());
+        TaskImportProgressDTO progress = objectMapper.readValue(lines.get(0), TaskImportProgressDTO.class);
+        assertEquals(2, progress.getProcessedCount());
+        assertEquals(1, progress.getCreatedCount());
+        TaskImportResultDTO result = objectMapper.readValue(lines.get(1), TaskImportResultDTO.class);
+        assertEquals(1, result.getFailedCount());
+        assertEquals("Task is required", result.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void testConditionalGetAndUpdate() throws Exception {
+        String etag = mockMvc.perform(get("/api/tasks/" + task1.getId())
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/tasks/" + task1.getId())
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        taskCreateDTO.setTitle("conditionallyUpdated");
+        String updatedEtag = mockMvc.perform(put("/api/tasks/" + task1.getId())
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(taskCreateDTO)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotEquals(etag, updatedEtag);
+
+        mockMvc.perform(put("/api/tasks/" + task1.getId())
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(taskCreateDTO)))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/tasks/" + task1.getId())
+                        .header("Authorization", "Bearer " + jwtToken)
+                        .header("If-None-Match", updatedEtag))
+                .andExpect(status().isNotModified());
+    }
 }
@@ -0,0 +1,160 @@
+package com.example.tasktrackerapi.integration;
+
+import com.example.tasktrackerapi.TaskTrackerApiApplication;
+import com.example.tasktrackerapi.entity.User;
+import com.example.tasktrackerapi.repository.UserRepository;
+import com.example.tasktrackerapi.security.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the application with {@code spring.threads.virtual.enabled=true} and a two-connection pool.
+ * Run with {@code -Dbenchmark=true} to also print throughput and p99 latency of task listings
+ * served on platform and on virtual threads.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=250"})
+@AutoConfigureMockMvc
+class VirtualThreadsIntegrationTest {
+
+    private static final int BENCHMARK_CLIENTS = 500;
+
+    private static final int BENCHMARK_REQUESTS_PER_CLIENT = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void requestsRunOnVirtualThreads() throws Exception {
+        TomcatWebServer webServer = (TomcatWebServer) context.getWebServer();
+        CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+
+        webServer.getTomcat().getConnector().getProtocolHandler().getExecutor()
+                .execute(() -> virtual.complete(Thread.currentThread().isVirtual()));
+
+        assertThat(virtual.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void asyncWorkRunsOnVirtualThreads() throws Exception {
+        Future<Boolean> virtual = applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual());
+
+        assertThat(virtual.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void exhaustedConnectionPool_Returns503() throws Exception {
+        String token = jwtUtil.generateToken(userRepository.findByEmail("giorgi").orElseThrow());
+
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            mockMvc.perform(get("/api/tasks")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"));
+        }
+
+        mockMvc.perform(get("/api/tasks")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkPlatformAndVirtualThreads() throws Exception {
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext app = new SpringApplicationBuilder(TaskTrackerApiApplication.class)
+                    .properties("server.port=0", "spring.threads.virtual.enabled=" + virtualThreads,
+                            "tasktracker.rate-limit.enabled=false")
+                    .run()) {
+                int port = ((ServletWebServerApplicationContext) app).getWebServer().getPort();
+                User user = app.getBean(UserRepository.class).findByEmail("giorgi").orElseThrow();
+                String token = app.getBean(JwtUtil.class).generateToken(user);
+
+                runClients(port, token); // warm-up
+                List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+                long start = System.nanoTime();
+                runClients(port, token, latencies);
+                long elapsed = System.nanoTime() - start;
+
+                List<Long> sorted = latencies.stream().sorted().toList();
+                long p99 = sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+                System.out.printf("%s threads, %d clients: %.0f requests/s, p99 %.1f ms%n",
+                        virtualThreads ? "Virtual" : "Platform", BENCHMARK_CLIENTS,
+                        sorted.size() / (elapsed / 1_000_000_000.0), p99 / 1_000_000.0);
+            }
+        }
+    }
+
+    private void runClients(int port, String token) throws Exception {
+        runClients(port, token, Collections.synchronizedList(new ArrayList<>()));
+    }
+
+    private void runClients(int port, String token, List<Long> latencies) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks?size=20"))
+                .header("Authorization", "Bearer " + token)
+                .build();
+        try (HttpClient client = HttpClient.newHttpClient();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < BENCHMARK_CLIENTS; i++) {
+                clients.submit(() -> {
+                    for (int r = 0; r < BENCHMARK_REQUESTS_PER_CLIENT; r++) {
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() == 200) {
+                            latencies.add(System.nanoTime() - sent);
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+    }
+}
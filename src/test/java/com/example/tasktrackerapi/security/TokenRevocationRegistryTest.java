@@ -0,0 +1,58 @@
+package com.example.tasktrackerapi.security;
+
+import com.example.tasktrackerapi.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationRegistryTest {
+
+    private TokenRevocationRegistry registry;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TokenRevocationRegistry();
+        user = new User();
+        user.setId(1L);
+        user.setEmail("user");
+        user.setRole(User.Role.MANAGER);
+    }
+
+    @Test
+    void testIsRevoked_TokenFromAnEarlierSecond() {
+        registry.revokeTokensOf(user);
+
+        assertTrue(registry.isRevoked(claims(User.Role.MANAGER), Date.from(Instant.now().minusSeconds(1))));
+        assertTrue(registry.isRevoked(claims(User.Role.MANAGER), null));
+    }
+
+    @Test
+    void testIsRevoked_OldRoleTokenFromTheSameSecond() {
+        // iat is truncated to seconds, so a token minted just before the change carries the same second
+        Date issuedAt = Date.from(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        user.setRole(User.Role.USER);
+        registry.revokeTokensOf(user);
+
+        assertTrue(registry.isRevoked(claims(User.Role.MANAGER), issuedAt));
+        assertFalse(registry.isRevoked(claims(User.Role.USER), issuedAt));
+    }
+
+    @Test
+    void testIsRevoked_OtherUsersAreNotAffected() {
+        registry.revokeTokensOf(user);
+
+        assertFalse(registry.isRevoked(new CurrentUser(2L, "other", User.Role.USER),
+                Date.from(Instant.now().minusSeconds(60))));
+    }
+
+    private CurrentUser claims(User.Role role) {
+        return new CurrentUser(user.getId(), user.getEmail(), role);
+    }
+}
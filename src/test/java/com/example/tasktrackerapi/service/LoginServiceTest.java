@@ -0,0 +1,114 @@
+package com.example.tasktrackerapi.service;
+
+import com.example.tasktrackerapi.dtos.AuthResponseDTO;
+import com.example.tasktrackerapi.dtos.UserLoginDTO;
+import com.example.tasktrackerapi.entity.User;
+import com.example.tasktrackerapi.exeption.AuthenticationFailedException;
+import com.example.tasktrackerapi.exeption.TooManyRequestsException;
+import com.example.tasktrackerapi.security.JwtUtil;
+import com.example.tasktrackerapi.security.LoginAttemptLimiter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class LoginServiceTest {
+
+    private LoginService loginService;
+
+    @Mock
+    private AuthenticationManager authManager;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private LoginAttemptLimiter loginAttemptLimiter;
+
+    private ThreadPoolTaskExecutor loginExecutor;
+
+    private final UserLoginDTO credentials = new UserLoginDTO("user@test.com", "secret");
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        loginExecutor = new ThreadPoolTaskExecutor();
+        loginExecutor.setCorePoolSize(1);
+        loginExecutor.setMaxPoolSize(1);
+        loginExecutor.setQueueCapacity(0);
+        loginExecutor.initialize();
+        loginService = new LoginService(authManager, jwtUtil, loginAttemptLimiter, loginExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loginExecutor.shutdown();
+    }
+
+    @Test
+    void testLogin_IssuesTokenAndClearsAccountFailures() {
+        User user = User.builder().id(1L).email("user@test.com").role(User.Role.USER).build();
+        when(authManager.authenticate(any()))
+                .thenReturn(UsernamePasswordAuthenticationToken.authenticated(user, null, List.of()));
+        when(jwtUtil.generateToken(user)).thenReturn("token");
+
+        AuthResponseDTO response = loginService.login(credentials, "10.0.0.1").join();
+
+        assertEquals("token", response.getAccessToken());
+        verify(loginAttemptLimiter).loginSucceeded("user@test.com");
+    }
+
+    @Test
+    void testLogin_WrongPasswordIsCounted() {
+        when(authManager.authenticate(any())).thenThrow(new BadCredentialsException("bad"));
+
+        CompletionException thrown = assertThrows(CompletionException.class,
+                () -> loginService.login(credentials, "10.0.0.1").join());
+
+        assertInstanceOf(AuthenticationFailedException.class, thrown.getCause());
+        verify(loginAttemptLimiter).loginFailed("user@test.com", "10.0.0.1");
+    }
+
+    @Test
+    void testLogin_LockedOutAttemptIsNotChecked() {
+        doThrow(new TooManyRequestsException("locked", 60)).when(loginAttemptLimiter).checkAllowed("user@test.com", "10.0.0.1");
+
+        assertThrows(TooManyRequestsException.class, () -> loginService.login(credentials, "10.0.0.1"));
+        verifyNoInteractions(authManager);
+    }
+
+    @Test
+    void testLogin_SaturatedExecutorRejectsAtOnce() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> busy = CompletableFuture.runAsync(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, loginExecutor);
+
+        try {
+            assertThrows(TaskRejectedException.class, () -> loginService.login(credentials, "10.0.0.1"));
+            verifyNoInteractions(authManager);
+        } finally {
+            release.countDown();
+            busy.join();
+        }
+    }
+}
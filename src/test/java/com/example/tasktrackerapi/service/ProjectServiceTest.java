@@ -2,18 +2,30 @@ package com.example.tasktrackerapi.service;
 
 import com.example.tasktrackerapi.dtos.ProjectCreateDTO;
 import com.example.tasktrackerapi.dtos.ProjectDTO;
+import com.example.tasktrackerapi.dtos.TaskDTO;
 import com.example.tasktrackerapi.entity.Project;
+import com.example.tasktrackerapi.entity.Task;
 import com.example.tasktrackerapi.entity.User;
+import com.example.tasktrackerapi.exeption.BadRequestException;
+import com.example.tasktrackerapi.exeption.PreconditionFailedException;
 import com.example.tasktrackerapi.exeption.ResourceNotFoundException;
 import com.example.tasktrackerapi.mapper.ProjectMapper;
+import com.example.tasktrackerapi.mapper.TaskMapper;
 import com.example.tasktrackerapi.repository.ProjectRepository;
+import com.example.tasktrackerapi.repository.ProjectVersion;
+import com.example.tasktrackerapi.repository.TaskRepository;
 import com.example.tasktrackerapi.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.ArrayList;
@@ -32,6 +44,15 @@ class ProjectServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    @Mock
+    private TaskDetailCache taskDetailCache;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -60,19 +81,43 @@ class ProjectServiceTest {
 
     @Test
     void testGetAllProjects() {
-        when(projectRepository.findAll()).thenReturn(List.of(project));
-        when(projectMapper.toDtos(List.of(project))).thenReturn(List.of(projectDTO));
+        when(projectRepository.findAllWithOwner(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(project)));
+        when(projectMapper.toSummaryDto(project)).thenReturn(projectDTO);
 
-        List<ProjectDTO> result = projectService.getAllProjects();
+        Page<ProjectDTO> result = projectService.getAllProjects(PageRequest.of(0, 10));
 
-        assertEquals(1, result.size());
-        verify(projectRepository).findAll();
-        verify(projectMapper).toDtos(anyList());
+        assertEquals(1, result.getContent().size());
+        verify(projectRepository).findAllWithOwner(any(Pageable.class));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testGetAllProjectsWithTasks() {
+        Task task = Task.builder().id(5L).project(project).build();
+        TaskDTO taskDTO = TaskDTO.builder().title("Task").build();
+        ProjectDTO summary = new ProjectDTO("Test Project", "Test Description", null, null, null, null);
+        when(projectRepository.findAllWithOwner(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(project)));
+        when(projectMapper.toSummaryDto(project)).thenReturn(summary);
+        when(taskRepository.findFirstTasksOfProjects(List.of(1L), 3)).thenReturn(List.of(task));
+        when(taskMapper.toDto(task)).thenReturn(taskDTO);
+
+        Page<ProjectDTO> result = projectService.getAllProjectsWithTasks(PageRequest.of(0, 10), 3);
+
+        assertEquals(List.of(taskDTO), result.getContent().get(0).getTasks());
+        verify(taskRepository).findFirstTasksOfProjects(List.of(1L), 3);
+    }
+
+    @Test
+    void testGetAllProjectsWithTasks_InvalidLimit() {
+        assertThrows(BadRequestException.class, () -> projectService.getAllProjectsWithTasks(PageRequest.of(0, 10), 0));
+        assertThrows(BadRequestException.class, () -> projectService.getAllProjectsWithTasks(PageRequest.of(0, 10),
+                ProjectService.MAX_TASK_LIMIT + 1));
+        verifyNoInteractions(projectRepository, taskRepository);
     }
 
     @Test
     void testGetProjectById_Found() {
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(projectRepository.findDetailedById(1L)).thenReturn(Optional.of(project));
         when(projectMapper.toDto(project)).thenReturn(projectDTO);
 
         ProjectDTO result = projectService.getProjectById(1L);
@@ -83,7 +128,7 @@ class ProjectServiceTest {
 
     @Test
     void testGetProjectById_NotFound() {
-        when(projectRepository.findById(1L)).thenReturn(Optional.empty());
+        when(projectRepository.findDetailedById(1L)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> projectService.getProjectById(1L));
     }
@@ -111,13 +156,13 @@ class ProjectServiceTest {
 
     @Test
     void testUpdateProject_Success() {
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(projectRepository.findDetailedById(1L)).thenReturn(Optional.of(project));
         when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
         doNothing().when(projectMapper).updateEntity(projectCreateDTO, project);
         when(projectRepository.save(project)).thenReturn(project);
         when(projectMapper.toDto(project)).thenReturn(projectDTO);
 
-        ProjectDTO result = projectService.updateProject(1L, projectCreateDTO);
+        ProjectDTO result = projectService.updateProject(1L, projectCreateDTO, null);
 
         assertNotNull(result);
         assertEquals("Test Project", result.getName());
@@ -126,17 +171,41 @@ class ProjectServiceTest {
 
     @Test
     void testUpdateProject_ProjectNotFound() {
-        when(projectRepository.findById(1L)).thenReturn(Optional.empty());
+        when(projectRepository.findDetailedById(1L)).thenReturn(Optional.empty());
 
-        assertThrows(ResourceNotFoundException.class, () -> projectService.updateProject(1L, projectCreateDTO));
+        assertThrows(ResourceNotFoundException.class, () -> projectService.updateProject(1L, projectCreateDTO, null));
     }
 
     @Test
     void testUpdateProject_OwnerNotFound() {
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(projectRepository.findDetailedById(1L)).thenReturn(Optional.of(project));
         when(userRepository.findById(1L)).thenReturn(Optional.empty());
 
-        assertThrows(ResourceNotFoundException.class, () -> projectService.updateProject(1L, projectCreateDTO));
+        assertThrows(ResourceNotFoundException.class, () -> projectService.updateProject(1L, projectCreateDTO, null));
+    }
+
+    @Test
+    void testUpdateProject_IfMatchMismatch() {
+        project.setUpdateDate(LocalDateTime.of(2025, 1, 1, 12, 0));
+        when(projectRepository.findDetailedById(1L)).thenReturn(Optional.of(project));
+
+        assertThrows(PreconditionFailedException.class,
+                () -> projectService.updateProject(1L, projectCreateDTO, "\"1-0\""));
+        verify(projectRepository, never()).save(any());
+    }
+
+    @Test
+    void testUpdateProject_IfMatchCoversEmbeddedTasks() {
+        Task task = Task.builder().id(5L).updateDate(LocalDateTime.of(2025, 1, 1, 12, 0)).build();
+        project.setUpdateDate(LocalDateTime.of(2025, 1, 1, 11, 0));
+        project.setTasks(new ArrayList<>(List.of(task)));
+        String readTag = ETags.of(1L, ProjectVersion.of(project));
+        task.setUpdateDate(LocalDateTime.of(2025, 1, 1, 13, 0));
+        when(projectRepository.findDetailedById(1L)).thenReturn(Optional.of(project));
+
+        assertThrows(PreconditionFailedException.class,
+                () -> projectService.updateProject(1L, projectCreateDTO, readTag));
+        verify(projectRepository, never()).save(any());
     }
 
     @Test
@@ -146,6 +215,7 @@ class ProjectServiceTest {
 
         assertDoesNotThrow(() -> projectService.deleteProject(1L));
         verify(projectRepository).delete(project);
+        verify(taskDetailCache).evictAll();
     }
 
     @Test
@@ -0,0 +1,122 @@
+package com.example.tasktrackerapi.service;
+
+import com.example.tasktrackerapi.dtos.CursorPageDTO;
+import com.example.tasktrackerapi.dtos.TaskDTO;
+import com.example.tasktrackerapi.dtos.TaskFilterDTO;
+import com.example.tasktrackerapi.entity.TaskPriority;
+import com.example.tasktrackerapi.entity.TaskStatus;
+import com.example.tasktrackerapi.entity.User;
+import com.example.tasktrackerapi.exeption.AuthorizationFailedException;
+import com.example.tasktrackerapi.exeption.BadRequestException;
+import com.example.tasktrackerapi.exeption.ResourceNotFoundException;
+import com.example.tasktrackerapi.mapper.TaskMapper;
+import com.example.tasktrackerapi.repository.ReactiveTaskRepository;
+import com.example.tasktrackerapi.repository.TaskRow;
+import com.example.tasktrackerapi.security.CurrentUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class ReactiveTaskServiceTest {
+
+    @InjectMocks
+    private ReactiveTaskService reactiveTaskService;
+
+    @Mock
+    private ReactiveTaskRepository reactiveTaskRepository;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    @Mock
+    private UserService userService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        user = User.builder().id(1L).email("user@test.com").role(User.Role.USER).build();
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(user));
+        when(taskMapper.toDto(any(TaskRow.class))).thenAnswer(inv -> TaskDTO.builder()
+                .title(((TaskRow) inv.getArgument(0)).getTitle())
+                .build());
+    }
+
+    @Test
+    void testGetTaskById_Assignee() {
+        when(reactiveTaskRepository.findById(5L))
+                .thenReturn(Mono.just(new ReactiveTaskRepository.AccessibleRow(row(5L, "Mine"), 2L, 1L)));
+
+        assertEquals("Mine", reactiveTaskService.getTaskById(5L).block().getTitle());
+    }
+
+    @Test
+    void testGetTaskById_OtherUsersTaskIsForbidden() {
+        when(reactiveTaskRepository.findById(5L))
+                .thenReturn(Mono.just(new ReactiveTaskRepository.AccessibleRow(row(5L, "Theirs"), 2L, 3L)));
+
+        assertThrows(AuthorizationFailedException.class, () -> reactiveTaskService.getTaskById(5L).block());
+    }
+
+    @Test
+    void testGetTaskById_NotFound() {
+        when(reactiveTaskRepository.findById(5L)).thenReturn(Mono.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> reactiveTaskService.getTaskById(5L).block());
+    }
+
+    @Test
+    void testGetTasksAfter_FetchesOneExtraRowForTheNextCursor() {
+        TaskFilterDTO filter = new TaskFilterDTO();
+        when(reactiveTaskRepository.findRowsAfter(eq(1L), eq(false), isNull(), eq(filter), isNull(), isNull(), eq(2)))
+                .thenReturn(Flux.just(row(1L, "First"), row(2L, "Second")));
+
+        CursorPageDTO<TaskDTO> page = reactiveTaskService.getTasksAfter("", 1, filter).block();
+
+        assertEquals(1, page.getContent().size());
+        assertTrue(page.isHasNext());
+        assertNotNull(page.getNextCursor());
+    }
+
+    @Test
+    void testGetTasksAfter_SizeIsValidatedAndCapped() {
+        TaskFilterDTO filter = new TaskFilterDTO();
+        when(reactiveTaskRepository.findRowsAfter(any(), anyBoolean(), any(), any(), any(), any(), anyInt()))
+                .thenReturn(Flux.empty());
+
+        assertThrows(BadRequestException.class, () -> reactiveTaskService.getTasksAfter("", 0, filter));
+        assertThrows(BadRequestException.class, () -> reactiveTaskService.getTasksByAssignedUserAfter(9L, "", -1, filter));
+        reactiveTaskService.getTasksAfter("", Integer.MAX_VALUE, filter).block();
+
+        verify(reactiveTaskRepository).findRowsAfter(eq(1L), eq(false), isNull(), eq(filter), isNull(), isNull(),
+                eq(TaskCursor.MAX_SIZE + 1));
+        verify(reactiveTaskRepository, never()).userExists(any());
+    }
+
+    @Test
+    void testGetTasksByAssignedUserAfter_UnknownUser() {
+        when(reactiveTaskRepository.userExists(9L)).thenReturn(Mono.just(false));
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> reactiveTaskService.getTasksByAssignedUserAfter(9L, "", 10, new TaskFilterDTO()).block());
+        verify(reactiveTaskRepository, never()).findRowsAfter(any(), anyBoolean(), any(), any(), any(), any(), anyInt());
+    }
+
+    private static TaskRow row(Long id, String title) {
+        return new TaskRow(id, title, null, TaskStatus.TODO, TaskPriority.LOW, null, 1L, null,
+                LocalDateTime.of(2030, 1, 1, 0, 0), null);
+    }
+}
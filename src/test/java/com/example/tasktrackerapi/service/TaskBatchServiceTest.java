@@ -0,0 +1,140 @@
+package com.example.tasktrackerapi.service;
+
+import com.example.tasktrackerapi.dtos.TaskBatchItemResultDTO;
+import com.example.tasktrackerapi.dtos.TaskBatchResultDTO;
+import com.example.tasktrackerapi.dtos.TaskCreateDTO;
+import com.example.tasktrackerapi.dtos.TaskDTO;
+import com.example.tasktrackerapi.dtos.UserResponseDTO;
+import com.example.tasktrackerapi.entity.*;
+import com.example.tasktrackerapi.exeption.BadRequestException;
+import com.example.tasktrackerapi.mapper.TaskMapper;
+import com.example.tasktrackerapi.repository.ProjectRepository;
+import com.example.tasktrackerapi.repository.TaskRepository;
+import com.example.tasktrackerapi.repository.UserRepository;
+import com.example.tasktrackerapi.security.CurrentUser;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class TaskBatchServiceTest {
+
+    private TaskBatchService taskBatchService;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TaskCounterService taskCounterService;
+
+    private User owner;
+    private User other;
+    private Project ownedProject;
+    private Project otherProject;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        taskBatchService = new TaskBatchService(taskRepository, taskMapper, projectRepository, userRepository,
+                userService, Validation.buildDefaultValidatorFactory().getValidator(), entityManager, taskCounterService);
+
+        owner = User.builder().id(1L).email("owner").role(User.Role.USER).build();
+        other = User.builder().id(2L).email("other").role(User.Role.USER).build();
+        ownedProject = Project.builder().id(10L).name("Owned").owner(owner).build();
+        otherProject = Project.builder().id(20L).name("Other").owner(other).build();
+
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner));
+        when(projectRepository.findAllById(anyCollection())).thenReturn(List.of(ownedProject, otherProject));
+        when(userRepository.findByEmailIn(anyCollection())).thenReturn(List.of(owner, other));
+        when(taskMapper.toEntity(any(TaskCreateDTO.class))).thenAnswer(inv -> new Task());
+        when(taskMapper.toDto(any(Task.class))).thenReturn(new TaskDTO());
+        when(taskRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    @Test
+    void testCreateTasks_ReportsEachFailureAndCreatesTheRest() {
+        List<TaskCreateDTO> items = List.of(
+                item(10L, "other"),
+                item(99L, "other"),
+                item(10L, "nobody"),
+                item(20L, "other"),
+                item(20L, "owner"),
+                TaskCreateDTO.builder().projectId(10L).build()
+        );
+
+        TaskBatchResultDTO result = taskBatchService.createTasks(items);
+
+        assertEquals(2, result.getCreatedCount());
+        assertEquals(4, result.getFailedCount());
+        List<TaskBatchItemResultDTO> results = result.getItems();
+        assertTrue(results.get(0).isCreated());
+        assertEquals("Project not found with id 99", results.get(1).getError());
+        assertEquals("User not found: nobody", results.get(2).getError());
+        assertEquals("Not allowed to access this task", results.get(3).getError());
+        assertTrue(results.get(4).isCreated(), "assignee may add tasks to a project they do not own");
+        assertTrue(results.get(5).getError().contains("Title is required"));
+        verify(projectRepository, times(1)).findAllById(anyCollection());
+        verify(userRepository, times(1)).findByEmailIn(anyCollection());
+        verify(taskRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void testCreateTasks_NullItemIsReported() {
+        TaskBatchResultDTO result = taskBatchService.createTasks(Arrays.asList(null, item(10L, "owner")));
+
+        assertEquals(1, result.getCreatedCount());
+        assertEquals("Task is required", result.getItems().get(0).getError());
+        assertTrue(result.getItems().get(1).isCreated());
+    }
+
+    @Test
+    void testCreateTasks_EmptyBatch() {
+        assertThrows(BadRequestException.class, () -> taskBatchService.createTasks(Collections.emptyList()));
+    }
+
+    @Test
+    void testCreateTasks_TooManyItems() {
+        List<TaskCreateDTO> items = Collections.nCopies(TaskBatchService.MAX_BATCH_SIZE + 1, item(10L, "owner"));
+
+        assertThrows(BadRequestException.class, () -> taskBatchService.createTasks(items));
+        verifyNoInteractions(taskRepository);
+    }
+
+    private TaskCreateDTO item(Long projectId, String assigneeEmail) {
+        return TaskCreateDTO.builder()
+                .title("Batch task")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.LOW)
+                .dueDate(LocalDate.now().plusDays(1))
+                .projectId(projectId)
+                .assignedUser(new UserResponseDTO(assigneeEmail))
+                .build();
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.tasktrackerapi.service;
+
+import com.example.tasktrackerapi.dtos.TaskStatsDTO;
+import com.example.tasktrackerapi.entity.*;
+import com.example.tasktrackerapi.exeption.AuthorizationFailedException;
+import com.example.tasktrackerapi.repository.ProjectRepository;
+import com.example.tasktrackerapi.repository.TaskCount;
+import com.example.tasktrackerapi.repository.TaskCounterRepository;
+import com.example.tasktrackerapi.repository.UserRepository;
+import com.example.tasktrackerapi.security.CurrentUser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskCounterServiceTest {
+
+    @InjectMocks
+    private TaskCounterService taskCounterService;
+
+    @Mock
+    private TaskCounterRepository taskCounterRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private EntityManager entityManager;
+
+    private User owner;
+    private User other;
+    private Project project;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        owner = User.builder().id(1L).email("owner@test.com").role(User.Role.USER).build();
+        other = User.builder().id(2L).email("other@test.com").role(User.Role.USER).build();
+        project = Project.builder().id(1L).owner(owner).build();
+        task = Task.builder()
+                .id(1L)
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.HIGH)
+                .project(project)
+                .assignedUser(other)
+                .build();
+    }
+
+    @Test
+    void testTaskChanged_RecordsLeavingAndEnteringGroup() {
+        TaskCount before = TaskCount.of(task);
+        task.setStatus(TaskStatus.DONE);
+
+        taskCounterService.taskChanged(before, task);
+
+        verify(taskCounterRepository).insertDeltas(List.of(
+                new TaskCount(1L, 2L, TaskStatus.TODO, TaskPriority.HIGH, -1),
+                new TaskCount(1L, 2L, TaskStatus.DONE, TaskPriority.HIGH, 1)));
+    }
+
+    @Test
+    void testTaskChanged_SameGroupRecordsNothing() {
+        TaskCount before = TaskCount.of(task);
+        task.setTitle("Renamed");
+
+        taskCounterService.taskChanged(before, task);
+
+        verifyNoInteractions(taskCounterRepository);
+    }
+
+    @Test
+    void testTasksCreated_RecordsOneDeltaPerGroup() {
+        Task second = Task.builder().status(TaskStatus.TODO).priority(TaskPriority.HIGH).project(project)
+                .assignedUser(other).build();
+
+        taskCounterService.tasksCreated(List.of(task, second));
+
+        verify(taskCounterRepository).insertDeltas(List.of(new TaskCount(1L, 2L, TaskStatus.TODO, TaskPriority.HIGH, 2)));
+    }
+
+    @Test
+    void testGetStats_ProjectOwnerGetsEveryStatusAndPriority() {
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner));
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(taskCounterRepository.sumByStatusAndPriority(1L, null)).thenReturn(List.of(
+                new TaskCount(1L, null, TaskStatus.TODO, TaskPriority.HIGH, 3),
+                new TaskCount(1L, null, TaskStatus.DONE, TaskPriority.HIGH, 2)));
+
+        TaskStatsDTO stats = taskCounterService.getStats(1L, null);
+
+        assertEquals(5, stats.getTotal());
+        assertEquals(3, stats.getByStatus().get(TaskStatus.TODO));
+        assertEquals(0, stats.getByStatus().get(TaskStatus.IN_PROGRESS));
+        assertEquals(5, stats.getByPriority().get(TaskPriority.HIGH));
+        assertEquals(0, stats.getByPriority().get(TaskPriority.LOW));
+        assertEquals(2, stats.getByStatusAndPriority().get(TaskStatus.DONE).get(TaskPriority.HIGH));
+    }
+
+    @Test
+    void testGetStats_OtherUsersProjectIsForbidden() {
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(other));
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+
+        assertThrows(AuthorizationFailedException.class, () -> taskCounterService.getStats(1L, null));
+        verifyNoInteractions(taskCounterRepository);
+    }
+
+    @Test
+    void testGetStats_AllTasksRequireAdmin() {
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner));
+
+        assertThrows(AuthorizationFailedException.class, () -> taskCounterService.getStats(null, null));
+    }
+
+    @Test
+    void testReconcile_RecordsCorrectionsAndCountsDrift() {
+        List<TaskCount> drift = List.of(
+                new TaskCount(1L, null, TaskStatus.TODO, TaskPriority.LOW, 2),
+                new TaskCount(1L, 2L, TaskStatus.DONE, TaskPriority.LOW, -1));
+        when(taskCounterRepository.findDrift()).thenReturn(drift);
+
+        assertEquals(drift, taskCounterService.reconcile());
+
+        verify(taskCounterRepository).insertDeltas(drift);
+        assertEquals(3, meterRegistry.counter(TaskCounterService.DRIFT_METRIC).count());
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.tasktrackerapi.service;
+
+import com.example.tasktrackerapi.dtos.TaskDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskDetailCacheTest {
+
+    private TaskDetailCache taskDetailCache;
+
+    @BeforeEach
+    void setUp() {
+        taskDetailCache = new TaskDetailCache();
+    }
+
+    @Test
+    void testGet_CachesLoadedEntry() {
+        TaskDetailCache.Entry first = taskDetailCache.get(1L, id -> entry(10L));
+
+        assertSame(first, taskDetailCache.get(1L, id -> entry(20L)));
+    }
+
+    @Test
+    void testGet_LoadRacingEvictAllIsNotServedAfterwards() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+
+        // the load reads the old owner, then the bulk change commits and evicts before it is stored
+        CompletableFuture<TaskDetailCache.Entry> staleLoad = CompletableFuture.supplyAsync(() ->
+                taskDetailCache.get(1L, id -> {
+                    loading.countDown();
+                    await(evicted);
+                    return entry(10L);
+                }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        taskDetailCache.evictAll();
+        evicted.countDown();
+        staleLoad.get(5, TimeUnit.SECONDS);
+
+        assertEquals(20L, taskDetailCache.get(1L, id -> entry(20L)).getOwnerId());
+        assertEquals(20L, taskDetailCache.get(1L, id -> entry(30L)).getOwnerId());
+    }
+
+    private static TaskDetailCache.Entry entry(Long ownerId) {
+        return new TaskDetailCache.Entry(new TaskDTO(), 0L, ownerId, null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.tasktrackerapi.service;
+
+import com.example.tasktrackerapi.dtos.TaskDTO;
+import com.example.tasktrackerapi.dtos.TaskFilterDTO;
+import com.example.tasktrackerapi.entity.Task;
+import com.example.tasktrackerapi.entity.TaskPriority;
+import com.example.tasktrackerapi.entity.TaskStatus;
+import com.example.tasktrackerapi.entity.User;
+import com.example.tasktrackerapi.mapper.TaskMapper;
+import com.example.tasktrackerapi.repository.TaskRepository;
+import com.example.tasktrackerapi.repository.TaskRow;
+import com.example.tasktrackerapi.security.CurrentUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+class TaskExportServiceTest {
+
+    private TaskExportService taskExportService;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    @Mock
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        taskExportService = new TaskExportService(taskRepository, taskMapper, userService, objectMapper);
+
+        User user = User.builder().id(1L).email("user@test.com").role(User.Role.USER).build();
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(user));
+    }
+
+    @Test
+    void testExportTasks_WritesOneLinePerTaskAndClosesTheCursor() throws Exception {
+        TaskRow first = row(1L, "First");
+        TaskRow second = row(2L, "Second");
+        AtomicBoolean closed = new AtomicBoolean();
+        when(taskRepository.streamRows(ArgumentMatchers.<Specification<Task>>any(), eq(TaskExportService.FETCH_SIZE)))
+                .thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+        when(taskMapper.toDto(any(TaskRow.class))).thenAnswer(inv -> TaskDTO.builder()
+                .title(((TaskRow) inv.getArgument(0)).getTitle())
+                .dueDate(LocalDate.of(2030, 1, 1))
+                .build());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = taskExportService.exportTasks(TaskFilterDTO.builder().status(List.of(TaskStatus.TODO)).build(), out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, written);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"title\":\"First\""));
+        assertTrue(lines[1].contains("\"dueDate\":\"2030-01-01\""));
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("\n"));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testExportTasks_NoTasks() throws Exception {
+        when(taskRepository.streamRows(ArgumentMatchers.<Specification<Task>>any(), eq(TaskExportService.FETCH_SIZE)))
+                .thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(0, taskExportService.exportTasks(new TaskFilterDTO(), out));
+        assertEquals(0, out.size());
+    }
+
+    private TaskRow row(Long id, String title) {
+        return new TaskRow(id, title, null, TaskStatus.TODO, TaskPriority.LOW, LocalDate.of(2030, 1, 1),
+                1L, "user@test.com", LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.tasktrackerapi.service;
+
+import com.example.tasktrackerapi.dtos.TaskBatchItemResultDTO;
+import com.example.tasktrackerapi.dtos.TaskBatchResultDTO;
+import com.example.tasktrackerapi.dtos.TaskCreateDTO;
+import com.example.tasktrackerapi.dtos.TaskDTO;
+import com.example.tasktrackerapi.dtos.TaskImportProgressDTO;
+import com.example.tasktrackerapi.dtos.TaskImportResultDTO;
+import com.example.tasktrackerapi.entity.TaskPriority;
+import com.example.tasktrackerapi.entity.TaskStatus;
+import com.example.tasktrackerapi.exeption.BadRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class TaskImportServiceTest {
+
+    private TaskImportService taskImportService;
+
+    @Mock
+    private TaskBatchService taskBatchService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        taskImportService = new TaskImportService(taskBatchService, new ObjectMapper().findAndRegisterModules());
+
+        // every item succeeds unless its title is "reject"
+        when(taskBatchService.createTasks(anyList())).thenAnswer(inv -> {
+            List<TaskCreateDTO> chunk = inv.getArgument(0);
+            List<TaskBatchItemResultDTO> items = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                items.add("reject".equals(chunk.get(i).getTitle())
+                        ? TaskBatchItemResultDTO.failed(i, "Project not found with id 9")
+                        : TaskBatchItemResultDTO.created(i, new TaskDTO()));
+            }
+            int created = (int) items.stream().filter(TaskBatchItemResultDTO::isCreated).count();
+            return new TaskBatchResultDTO(created, items.size() - created, items);
+        });
+    }
+
+    @Test
+    void testImportNdjson_ReportsParseAndBatchErrorsByLine() throws Exception {
+        String body = """
+                {"title":"one","status":"TODO","priority":"LOW","projectId":1}
+                not json
+
+                {"title":"reject","status":"TODO","priority":"LOW","projectId":9}
+                """;
+
+        TaskImportResultDTO result = taskImportService.importTasks(stream(body), TaskImportService.Format.NDJSON);
+
+        assertEquals(3, result.getProcessedCount());
+        assertEquals(1, result.getCreatedCount());
+        assertEquals(2, result.getFailedCount());
+        assertEquals(2, result.getErrors().get(0).getLine());
+        assertEquals(4, result.getErrors().get(1).getLine());
+        assertEquals("Project not found with id 9", result.getErrors().get(1).getMessage());
+    }
+
+    @Test
+    void testImportNdjson_NullLineIsReportedAsLineError() throws Exception {
+        String body = """
+                null
+                {"title":"one","status":"TODO","priority":"LOW","projectId":1}
+                """;
+
+        TaskImportResultDTO result = taskImportService.importTasks(stream(body), TaskImportService.Format.NDJSON);
+
+        assertEquals(2, result.getProcessedCount());
+        assertEquals(1, result.getCreatedCount());
+        assertEquals(1, result.getFailedCount());
+        assertEquals(1, result.getErrors().get(0).getLine());
+        assertEquals("Task is required", result.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void testImport_ReportsProgressAfterEachChunk() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < TaskImportService.CHUNK_SIZE + 1; i++) {
+            body.append("{\"title\":\"t").append(i).append("\",\"status\":\"TODO\",\"priority\":\"LOW\",\"projectId\":1}\n");
+        }
+        List<TaskImportProgressDTO> progress = new ArrayList<>();
+
+        taskImportService.importTasks(stream(body.toString()), TaskImportService.Format.NDJSON, progress::add);
+
+        assertEquals(2, progress.size());
+        assertEquals(TaskImportService.CHUNK_SIZE, progress.get(0).getCreatedCount());
+        assertEquals(TaskImportService.CHUNK_SIZE + 1, progress.get(1).getProcessedCount());
+    }
+
+    @Test
+    void testImport_WritesInFixedSizeChunks() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < TaskImportService.CHUNK_SIZE + 1; i++) {
+            body.append("{\"title\":\"t").append(i).append("\",\"status\":\"TODO\",\"priority\":\"LOW\",\"projectId\":1}\n");
+        }
+
+        TaskImportResultDTO result = taskImportService.importTasks(stream(body.toString()), TaskImportService.Format.NDJSON);
+
+        verify(taskBatchService, times(2)).createTasks(anyList());
+        assertEquals(TaskImportService.CHUNK_SIZE + 1, result.getCreatedCount());
+        assertEquals(0, result.getFailedCount());
+    }
+
+    @Test
+    void testImportCsv_ParsesQuotedFieldsAndReportsBadValues() throws Exception {
+        String body = "title,description,status,priority,dueDate,projectId,assigneeEmail\n" +
+                "\"Fix, then ship\",\"Say \"\"hi\"\"\",todo,HIGH,2030-01-31,1,user@test.com\n" +
+                "Broken,,NOPE,LOW,,1,\n";
+
+        TaskImportResultDTO result = taskImportService.importTasks(stream(body), TaskImportService.Format.CSV);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TaskCreateDTO>> chunk = ArgumentCaptor.forClass(List.class);
+        verify(taskBatchService).createTasks(chunk.capture());
+        TaskCreateDTO parsed = chunk.getValue().get(0);
+        assertEquals("Fix, then ship", parsed.getTitle());
+        assertEquals("Say \"hi\"", parsed.getDescription());
+        assertEquals(TaskStatus.TODO, parsed.getStatus());
+        assertEquals(TaskPriority.HIGH, parsed.getPriority());
+        assertEquals(LocalDate.of(2030, 1, 31), parsed.getDueDate());
+        assertEquals("user@test.com", parsed.getAssignedUser().getEmail());
+
+        assertEquals(1, result.getCreatedCount());
+        assertEquals(3, result.getErrors().get(0).getLine());
+        assertEquals("Invalid status: NOPE", result.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void testImportCsv_UnknownColumn() {
+        assertThrows(BadRequestException.class, () -> taskImportService.importTasks(
+                stream("title,colour\n"), TaskImportService.Format.CSV));
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
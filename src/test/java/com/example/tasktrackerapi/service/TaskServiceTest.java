@@ -1,24 +1,38 @@
 package com.example.tasktrackerapi.service;
 
+import com.example.tasktrackerapi.dtos.BulkReassignDTO;
+import com.example.tasktrackerapi.dtos.BulkStatusUpdateDTO;
+import com.example.tasktrackerapi.dtos.BulkUpdateResultDTO;
+import com.example.tasktrackerapi.dtos.CursorPageDTO;
 import com.example.tasktrackerapi.dtos.TaskCreateDTO;
 import com.example.tasktrackerapi.dtos.TaskDTO;
+import com.example.tasktrackerapi.dtos.TaskFilterDTO;
 import com.example.tasktrackerapi.dtos.UpdateTaskStatusDTO;
 import com.example.tasktrackerapi.dtos.UserResponseDTO;
 import com.example.tasktrackerapi.entity.*;
 import com.example.tasktrackerapi.exeption.AuthorizationFailedException;
+import com.example.tasktrackerapi.exeption.BadRequestException;
+import com.example.tasktrackerapi.exeption.PreconditionFailedException;
 import com.example.tasktrackerapi.exeption.ResourceNotFoundException;
 import com.example.tasktrackerapi.mapper.TaskMapper;
 import com.example.tasktrackerapi.repository.ProjectRepository;
+import com.example.tasktrackerapi.repository.TaskCount;
 import com.example.tasktrackerapi.repository.TaskRepository;
+import com.example.tasktrackerapi.repository.TaskRow;
+import com.example.tasktrackerapi.repository.TaskVersion;
 import com.example.tasktrackerapi.repository.UserRepository;
+import com.example.tasktrackerapi.security.CurrentUser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -43,7 +57,14 @@ class TaskServiceTest {
     @Mock
     private UserService userService;
 
+    @Spy
+    private TaskDetailCache taskDetailCache = new TaskDetailCache();
+
+    @Mock
+    private TaskCounterService taskCounterService;
+
     private Task task;
+    private TaskRow taskRow;
     private TaskDTO taskDTO;
     private TaskCreateDTO taskCreateDTO;
     private User owner;
@@ -67,6 +88,9 @@ class TaskServiceTest {
                 .assignedUser(owner)
                 .build();
 
+        taskRow = new TaskRow(1L, "Test Task", null, TaskStatus.TODO, TaskPriority.MEDIUM,
+                LocalDate.now().plusDays(1), 1L, "owner@test.com", LocalDateTime.now(), LocalDateTime.now());
+
         taskDTO = TaskDTO.builder()
                 .title("Test Task")
                 .status(TaskStatus.TODO)
@@ -86,26 +110,36 @@ class TaskServiceTest {
 
     @Test
     void testGetTaskById_Found() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(userService.getCurrentUserEmail()).thenReturn("owner@test.com");
-        when(userRepository.findByEmail("owner@test.com")).thenReturn(Optional.of(owner));
+        when(taskRepository.findDetailedById(1L)).thenReturn(Optional.of(task));
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner));
         when(taskMapper.toDto(task)).thenReturn(taskDTO);
 
         TaskDTO result = taskService.getTaskById(1L);
         assertEquals("Test Task", result.getTitle());
-        verify(taskRepository, times(1)).findById(1L);
+        verify(taskRepository, times(1)).findDetailedById(1L);
+    }
+
+    @Test
+    void testGetTaskETag_ReadsOnlyTheVersion() {
+        User outsider = User.builder().id(5L).email("outsider@test.com").role(User.Role.USER).build();
+        when(taskRepository.findVersionById(1L)).thenReturn(Optional.of(new TaskVersion(4L, 1L, null)));
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner), CurrentUser.of(outsider));
+
+        assertEquals(ETags.of(1L, 4L), taskService.getTaskETag(1L));
+        assertThrows(AuthorizationFailedException.class, () -> taskService.getTaskETag(1L));
+        verify(taskRepository, never()).findDetailedById(any());
     }
 
     @Test
     void testGetTaskById_NotFound() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+        when(taskRepository.findDetailedById(1L)).thenReturn(Optional.empty());
         assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskById(1L));
     }
 
     @Test
     void testCreateTask_Success() {
         when(taskMapper.toEntity(taskCreateDTO)).thenReturn(task);
-        when(userService.getCurrentUserEmail()).thenReturn("owner@test.com");
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner));
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(owner));
         when(taskRepository.save(task)).thenReturn(task);
@@ -113,30 +147,30 @@ class TaskServiceTest {
 
         TaskDTO result = taskService.createTask(taskCreateDTO);
         assertEquals("Test Task", result.getTitle());
+        verify(taskCounterService).taskCreated(task);
     }
 
     @Test
     void testUpdateTask_Success() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(userService.getCurrentUserEmail()).thenReturn("owner@test.com");
-        when(userRepository.findByEmail("owner@test.com")).thenReturn(Optional.of(owner));
+        when(taskRepository.findDetailedById(1L)).thenReturn(Optional.of(task));
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner));
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(owner));
-        when(taskRepository.save(task)).thenReturn(task);
+        when(taskRepository.saveAndFlush(task)).thenReturn(task);
         when(taskMapper.toDto(task)).thenReturn(taskDTO);
 
-        TaskDTO result = taskService.updateTask(1L, taskCreateDTO);
+        TaskDTO result = taskService.updateTask(1L, taskCreateDTO, null);
         assertEquals("Test Task", result.getTitle());
     }
 
     @Test
     void testDeleteTask_Success() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(userService.getCurrentUserEmail()).thenReturn("owner@test.com");
-        when(userRepository.findByEmail("owner@test.com")).thenReturn(Optional.of(owner));
+        when(taskRepository.findForAuthorizationById(1L)).thenReturn(Optional.of(task));
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner));
         doNothing().when(taskRepository).delete(task);
 
         assertDoesNotThrow(() -> taskService.deleteTask(1L));
+        verify(taskCounterService).taskDeleted(task);
     }
 
     @Test
@@ -144,8 +178,7 @@ class TaskServiceTest {
         User newUser = User.builder().id(2L).email("user2@test.com").role(User.Role.USER).build();
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
         when(userRepository.findById(2L)).thenReturn(Optional.of(newUser));
-        when(userService.getCurrentUserEmail()).thenReturn("owner@test.com");
-        when(userRepository.findByEmail("owner@test.com")).thenReturn(Optional.of(owner));
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner));
         when(taskRepository.save(task)).thenReturn(task);
         when(taskMapper.toDto(task)).thenReturn(taskDTO);
 
@@ -156,8 +189,7 @@ class TaskServiceTest {
     @Test
     void testAssignTaskToUser_Unauthorized() {
         User normalUser = User.builder().id(3L).email("user3@test.com").role(User.Role.USER).build();
-        when(userService.getCurrentUserEmail()).thenReturn("user3@test.com");
-        when(userRepository.findByEmail("user3@test.com")).thenReturn(Optional.of(normalUser));
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(normalUser));
 
         assertThrows(AuthorizationFailedException.class, () -> taskService.assignTaskToUser(1L, 2L));
     }
@@ -168,14 +200,40 @@ class TaskServiceTest {
 
         UpdateTaskStatusDTO dto = new UpdateTaskStatusDTO(TaskStatus.IN_PROGRESS);
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(userService.getCurrentUserEmail()).thenReturn("admin@test.com");
-        when(userRepository.findByEmail("admin@test.com")).thenReturn(Optional.of(admin));
-        when(taskRepository.save(task)).thenReturn(task);
+        when(taskRepository.findDetailedById(1L)).thenReturn(Optional.of(task));
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(admin));
+        when(taskRepository.saveAndFlush(task)).thenReturn(task);
         when(taskMapper.toDto(task)).thenReturn(taskDTO);
 
-        TaskDTO result = taskService.updateTaskStatus(1L, dto);
+        TaskDTO result = taskService.updateTaskStatus(1L, dto, null);
         assertEquals("Test Task", result.getTitle());
+        verify(taskCounterService).taskChanged(new TaskCount(1L, 1L, TaskStatus.TODO, TaskPriority.MEDIUM, 1), task);
+    }
+
+    @Test
+    void testUpdateTask_IfMatchMismatch() {
+        task.setVersion(3L);
+        when(taskRepository.findDetailedById(1L)).thenReturn(Optional.of(task));
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner));
+
+        String staleTag = ETags.of(1L, 2L);
+        assertThrows(PreconditionFailedException.class, () -> taskService.updateTask(1L, taskCreateDTO, staleTag));
+        verify(taskRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void testUpdateTaskStatus_IfMatchCurrentTag() {
+        User admin = User.builder().id(2L).email("admin@test.com").role(User.Role.ADMIN).build();
+        task.setVersion(3L);
+        when(taskRepository.findDetailedById(1L)).thenReturn(Optional.of(task));
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(admin));
+        when(taskRepository.saveAndFlush(task)).thenReturn(task);
+        when(taskMapper.toDto(task)).thenReturn(taskDTO);
+
+        String currentTag = ETags.of(1L, task.getVersion());
+        taskService.updateTaskStatus(1L, new UpdateTaskStatusDTO(TaskStatus.DONE), "\"other\", " + currentTag);
+
+        assertEquals(TaskStatus.DONE, task.getStatus());
     }
 
     @Test
@@ -183,48 +241,229 @@ class TaskServiceTest {
         UpdateTaskStatusDTO dto = new UpdateTaskStatusDTO(TaskStatus.IN_PROGRESS);
 
         // Task is assigned to owner@test.com
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findDetailedById(1L)).thenReturn(Optional.of(task));
 
         // Current user is the assigned user
-        when(userService.getCurrentUserEmail()).thenReturn("owner@test.com");
-
-        // userRepository mock is optional but can be included
-        when(userRepository.findByEmail("owner@test.com")).thenReturn(Optional.of(owner));
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner));
 
-        assertThrows(AuthorizationFailedException.class, () -> taskService.updateTaskStatus(1L, dto));
+        assertThrows(AuthorizationFailedException.class, () -> taskService.updateTaskStatus(1L, dto, null));
     }
     @Test
     void testGetTasksByAssignedUser_Success() {
-        when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
-        when(taskRepository.findByAssignedUser(any(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(task)));
-        when(userService.getCurrentUserEmail()).thenReturn("owner@test.com");
-        when(userRepository.findByEmail("owner@test.com")).thenReturn(Optional.of(owner));
-        when(taskMapper.toDto(task)).thenReturn(taskDTO);
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.findRows(ArgumentMatchers.<Specification<Task>>any(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(taskRow)));
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner));
+        when(taskMapper.toDto(taskRow)).thenReturn(taskDTO);
 
-        Page<TaskDTO> page = taskService.getTasksByAssignedUser(1L, PageRequest.of(0,10), null, null);
+        Page<TaskDTO> page = taskService.getTasksByAssignedUser(1L, new TaskFilterDTO(), PageRequest.of(0,10));
         assertEquals(1, page.getContent().size());
     }
 
+    @Test
+    void testGetTasksByAssignedUser_UserNotFound() {
+        when(userRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> taskService.getTasksByAssignedUser(1L, new TaskFilterDTO(), PageRequest.of(0,10)));
+    }
+
     @Test
     void testGetTasksWithFilters() {
-        Page<Task> tasks = new PageImpl<>(List.of(task));
-        when(taskRepository.findByStatusAndPriority(TaskStatus.TODO, TaskPriority.MEDIUM, PageRequest.of(0,10))).thenReturn(tasks);
-        when(userService.getCurrentUserEmail()).thenReturn("owner@test.com");
-        when(userRepository.findByEmail("owner@test.com")).thenReturn(Optional.of(owner));
-        when(taskMapper.toDto(task)).thenReturn(taskDTO);
+        Page<TaskRow> rows = new PageImpl<>(List.of(taskRow));
+        when(taskRepository.findRows(ArgumentMatchers.<Specification<Task>>any(), eq(PageRequest.of(0,10)))).thenReturn(rows);
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner));
+        when(taskMapper.toDto(taskRow)).thenReturn(taskDTO);
+
+        TaskFilterDTO filter = TaskFilterDTO.builder()
+                .status(List.of(TaskStatus.TODO))
+                .priority(List.of(TaskPriority.MEDIUM))
+                .build();
+        Page<TaskDTO> result = taskService.getTasks(filter, PageRequest.of(0,10));
+        assertEquals(1, result.getContent().size());
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(taskRepository, never()).findAll(ArgumentMatchers.<Specification<Task>>any(), any(Pageable.class));
+    }
+
+    @Test
+    void testGetTasks_SortAddsIdTieBreaker() {
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner));
+        when(taskRepository.findRows(ArgumentMatchers.<Specification<Task>>any(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of()));
+
+        taskService.getTasks(TaskFilterDTO.builder().sort("-priority, dueDate").build(), PageRequest.of(1, 10));
+
+        verify(taskRepository).findRows(ArgumentMatchers.<Specification<Task>>any(),
+                eq(PageRequest.of(1, 10, Sort.by(Sort.Order.desc("priority"), Sort.Order.asc("dueDate"), Sort.Order.asc("id")))));
+    }
+
+    @Test
+    void testGetTasks_RejectsUnknownSortAndInvertedDueRange() {
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner));
+
+        assertThrows(BadRequestException.class, () -> taskService.getTasks(
+                TaskFilterDTO.builder().sort("password").build(), PageRequest.of(0, 10)));
+        assertThrows(BadRequestException.class, () -> taskService.getTasks(TaskFilterDTO.builder()
+                .dueFrom(LocalDate.now().plusDays(1)).dueTo(LocalDate.now()).build(), PageRequest.of(0, 10)));
+        assertThrows(BadRequestException.class, () -> taskService.getTasksAfter("", 10,
+                TaskFilterDTO.builder().sort("dueDate").build()));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testGetTasksAfter_ReturnsCursorWhenMoreRowsExist() {
+        TaskRow second = new TaskRow(2L, "Second", null, TaskStatus.TODO, TaskPriority.MEDIUM, null, 1L,
+                null, taskRow.getCreateDate(), taskRow.getUpdateDate());
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner));
+        when(taskRepository.findRowsAfter(ArgumentMatchers.<Specification<Task>>any(), isNull(), isNull(), eq(2)))
+                .thenReturn(List.of(taskRow, second));
+        when(taskMapper.toDto(taskRow)).thenReturn(taskDTO);
+
+        CursorPageDTO<TaskDTO> result = taskService.getTasksAfter("", 1, new TaskFilterDTO());
 
-        Page<TaskDTO> result = taskService.getTasks(PageRequest.of(0,10), TaskStatus.TODO, TaskPriority.MEDIUM);
         assertEquals(1, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertNotNull(result.getNextCursor());
+    }
+
+    @Test
+    void testGetTasksAfter_SizeIsValidatedAndCapped() {
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner));
+        when(taskRepository.findRowsAfter(ArgumentMatchers.<Specification<Task>>any(), isNull(), isNull(), anyInt()))
+                .thenReturn(List.of());
+
+        assertThrows(BadRequestException.class, () -> taskService.getTasksAfter("", 0, new TaskFilterDTO()));
+        assertThrows(BadRequestException.class, () -> taskService.getTasksAfter("", -1, new TaskFilterDTO()));
+        taskService.getTasksAfter("", Integer.MAX_VALUE, new TaskFilterDTO());
+
+        verify(taskRepository).findRowsAfter(ArgumentMatchers.<Specification<Task>>any(), isNull(), isNull(),
+                eq(TaskCursor.MAX_SIZE + 1));
+    }
+
+    @Test
+    void testGetTasksAfter_InvalidCursor() {
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner));
+
+        assertThrows(BadRequestException.class, () -> taskService.getTasksAfter("%%%", 10, new TaskFilterDTO()));
     }
 
     @Test
     void testGetTaskById_AccessDenied() {
         User otherUser = User.builder().id(2L).email("other@test.com").role(User.Role.USER).build();
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(userService.getCurrentUserEmail()).thenReturn("other@test.com");
-        when(userRepository.findByEmail("other@test.com")).thenReturn(Optional.of(otherUser));
+        when(taskRepository.findDetailedById(1L)).thenReturn(Optional.of(task));
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(otherUser));
 
         assertThrows(AuthorizationFailedException.class, () -> taskService.getTaskById(1L));
     }
+
+    @Test
+    void testGetTaskById_CachedTaskIsStillAuthorizedPerCaller() {
+        User otherUser = User.builder().id(2L).email("other@test.com").role(User.Role.USER).build();
+        when(taskRepository.findDetailedById(1L)).thenReturn(Optional.of(task));
+        when(taskMapper.toDto(task)).thenReturn(taskDTO);
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner), CurrentUser.of(owner),
+                CurrentUser.of(otherUser));
+
+        taskService.getTaskById(1L);
+        assertEquals("Test Task", taskService.getTaskById(1L).getTitle());
+        assertThrows(AuthorizationFailedException.class, () -> taskService.getTaskById(1L));
+        verify(taskRepository, times(1)).findDetailedById(1L);
+    }
+
+    @Test
+    void testGetTaskById_ReloadsAfterStatusUpdate() {
+        User manager = User.builder().id(3L).email("manager@test.com").role(User.Role.ADMIN).build();
+        when(taskRepository.findDetailedById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.saveAndFlush(task)).thenReturn(task);
+        when(taskMapper.toDto(task)).thenReturn(taskDTO);
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(manager));
+
+        taskService.getTaskById(1L);
+        taskService.updateTaskStatus(1L, new UpdateTaskStatusDTO(TaskStatus.DONE), null);
+        taskService.getTaskById(1L);
+
+        verify(taskDetailCache).evict(1L);
+        verify(taskRepository, times(3)).findDetailedById(1L);
+    }
+
+    @Test
+    void testUpdateTaskStatuses_ByIds() {
+        User user = User.builder().id(3L).email("user3@test.com").role(User.Role.USER).build();
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(user));
+        when(taskRepository.updateStatusByIds(eq(List.of(1L, 2L)), eq(TaskStatus.DONE), any(LocalDateTime.class),
+                eq(3L), eq(false))).thenReturn(1);
+
+        BulkUpdateResultDTO result = taskService.updateTaskStatuses(
+                BulkStatusUpdateDTO.builder().taskIds(List.of(1L, 2L)).status(TaskStatus.DONE).build());
+
+        assertEquals(1, result.getUpdatedCount());
+    }
+
+    @Test
+    void testUpdateTaskStatuses_ByProject() {
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner));
+        when(projectRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.updateStatusByProject(eq(1L), eq(TaskStatus.IN_PROGRESS), eq(TaskStatus.DONE),
+                any(LocalDateTime.class), eq(1L), eq(true))).thenReturn(4);
+
+        BulkUpdateResultDTO result = taskService.updateTaskStatuses(BulkStatusUpdateDTO.builder()
+                .projectId(1L).currentStatus(TaskStatus.IN_PROGRESS).status(TaskStatus.DONE).build());
+
+        assertEquals(4, result.getUpdatedCount());
+    }
+
+    @Test
+    void testUpdateTaskStatuses_RequiresExactlyOneSelector() {
+        assertThrows(BadRequestException.class, () -> taskService.updateTaskStatuses(
+                BulkStatusUpdateDTO.builder().status(TaskStatus.DONE).build()));
+        assertThrows(BadRequestException.class, () -> taskService.updateTaskStatuses(
+                BulkStatusUpdateDTO.builder().taskIds(List.of(1L)).projectId(1L).status(TaskStatus.DONE).build()));
+    }
+
+    @Test
+    void testUpdateTaskStatuses_ProjectNotFound() {
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner));
+        when(projectRepository.existsById(9L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.updateTaskStatuses(
+                BulkStatusUpdateDTO.builder().projectId(9L).status(TaskStatus.DONE).build()));
+    }
+
+    @Test
+    void testReassignOpenTasks_Success() {
+        User target = User.builder().id(2L).email("user2@test.com").role(User.Role.USER).build();
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(target));
+        when(taskRepository.reassignOpenTasks(eq(owner), eq(target), any(LocalDateTime.class))).thenReturn(3);
+
+        BulkUpdateResultDTO result = taskService.reassignOpenTasks(new BulkReassignDTO(1L, 2L));
+
+        assertEquals(3, result.getUpdatedCount());
+    }
+
+    @Test
+    void testReassignOpenTasks_MovesCountedGroupsToNewAssignee() {
+        User target = User.builder().id(2L).email("user2@test.com").role(User.Role.USER).build();
+        List<TaskCount> groups = List.of(new TaskCount(1L, 1L, TaskStatus.TODO, TaskPriority.HIGH, 3));
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(owner));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(owner));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(target));
+        when(taskRepository.countOpenTasks(owner)).thenReturn(groups);
+
+        taskService.reassignOpenTasks(new BulkReassignDTO(1L, 2L));
+
+        ArgumentCaptor<UnaryOperator<TaskCount>> change = ArgumentCaptor.captor();
+        verify(taskCounterService).tasksMoved(eq(groups), change.capture());
+        assertEquals(2L, change.getValue().apply(groups.get(0)).getAssigneeId());
+    }
+
+    @Test
+    void testReassignOpenTasks_Unauthorized() {
+        User normalUser = User.builder().id(3L).email("user3@test.com").role(User.Role.USER).build();
+        when(userService.getCurrentUser()).thenReturn(CurrentUser.of(normalUser));
+
+        assertThrows(AuthorizationFailedException.class, () -> taskService.reassignOpenTasks(new BulkReassignDTO(1L, 2L)));
+        verifyNoInteractions(taskRepository);
+    }
 }